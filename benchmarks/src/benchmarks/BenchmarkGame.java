@@ -0,0 +1,124 @@
+package benchmarks;
+
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import src.BrickerGameManager;
+import src.audio.AudioBackend;
+import src.brick_strategies.CollisionStrategyFactory;
+import src.gameobjects.Ball;
+import src.gameobjects.BrickGrid;
+import src.gameobjects.GameObjectCommandBuffer;
+import src.gameobjects.KeyboardPaddleController;
+import src.gameobjects.Paddle;
+import src.levels.LevelDescription;
+import src.physics.SweptBodies;
+import src.profiling.PerformanceMonitor;
+import src.simulation.HeadlessEnvironment;
+import src.utils.RandomService;
+
+/**
+ * The following class is a headless game the benchmarks run against.
+ * It initializes a bricker game manager with the stand-in readers and controllers of the headless
+ * environment, so the benchmarks exercise the real game objects without opening a window.
+ * @author Eliyahu Tamarkin
+ */
+class BenchmarkGame {
+
+    static final long SEED = 42;
+    static final Vector2 HEART_DIMENSIONS = new Vector2(25, 25);
+    private static final Vector2 PADDLE_DIMENSIONS = new Vector2(200, 20);
+    private static final Vector2 BALL_DIMENSIONS = new Vector2(30, 30);
+    private static final int PADDLE_MIN_DIST_FROM_EDGE = 30;
+    private static final int NUM_OF_LIVES = 3;
+
+    private final LevelDescription level;
+    private final HeadlessEnvironment environment;
+    private final BrickerGameManager gameManager;
+
+    /**
+     * Constructs a new BenchmarkGame instance and initializes its game.
+     * @param level the level to be played
+     */
+    BenchmarkGame(LevelDescription level) {
+        this.level = level;
+        this.environment = new HeadlessEnvironment(level.getWindowDimensions());
+        this.gameManager = new BrickerGameManager(BrickerGameManager.WINDOW_TITLE, level);
+        gameManager.setAudioBackend(AudioBackend.SILENT);
+        gameManager.setTextureAtlas(false);
+        gameManager.setLoadShedding(false);
+        gameManager.initializeGame(environment.getImageReader(), environment.getSoundReader(),
+                environment.getInputListener(), environment.getWindowController());
+        gameManager.awaitInteractive();
+    }
+
+    /**
+     * Game manager getter
+     * @return the manager of the game
+     */
+    BrickerGameManager getGameManager() {
+        return gameManager;
+    }
+
+    /**
+     * Command buffer getter
+     * @return the buffer the game's objects are added and removed through during a simulation step
+     */
+    GameObjectCommandBuffer getCommandBuffer() {
+        return gameManager.getCommandBuffer();
+    }
+
+    /**
+     * Game objects getter
+     * @return the game objects of the game
+     */
+    GameObjectCollection getGameObjects() {
+        return gameManager.gameObjects();
+    }
+
+    /**
+     * Swept bodies getter
+     * @return the balls and obstacles of the game, which objects added to the game directly must be
+     *         registered with
+     */
+    SweptBodies getSweptBodies() {
+        return gameManager.getSweptBodies();
+    }
+
+    /**
+     * Window dimensions getter
+     * @return the dimensions of the game's window
+     */
+    Vector2 getWindowDimensions() {
+        return level.getWindowDimensions();
+    }
+
+    /**
+     * Creates a ball which is not part of the game
+     * @return the ball
+     */
+    Ball createBall() {
+        return new Ball(Vector2.ZERO, BALL_DIMENSIONS, null, null, gameManager.getAudioDispatcher(), 0,
+                gameManager.getPerformanceMonitor());
+    }
+
+    /**
+     * Creates a strategy factory over the game's objects, with a paddle, a ball and a brick grid of
+     * its own
+     * @param ball the main ball of the factory's strategies
+     * @return the factory
+     */
+    CollisionStrategyFactory createStrategyFactory(Ball ball) {
+        Vector2 windowDimensions = level.getWindowDimensions();
+        PerformanceMonitor performanceMonitor = gameManager.getPerformanceMonitor();
+        Paddle paddle = new Paddle(Vector2.ZERO, PADDLE_DIMENSIONS, null, environment.getInputListener(),
+                windowDimensions, PADDLE_MIN_DIST_FROM_EDGE, performanceMonitor);
+        BrickGrid brickGrid = new BrickGrid(getGameObjects(), getSweptBodies(), level.getOrigin(),
+                level.getCellDimensions(), level.getRows(), level.getColumns(), performanceMonitor);
+        return new CollisionStrategyFactory(getCommandBuffer(), gameManager.getAssetRegistry(),
+                gameManager.getAudioDispatcher(), performanceMonitor, gameManager.getEffectScheduler(),
+                new KeyboardPaddleController(environment.getInputListener()), gameManager,
+                environment.getWindowController(), windowDimensions, paddle, ball,
+                new Counter(NUM_OF_LIVES), HEART_DIMENSIONS, brickGrid, new RandomService(SEED));
+    }
+}
@@ -0,0 +1,30 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The following class runs the bricker benchmarks with the gc profiler, so that every benchmark
+ * reports its allocation rate next to its throughput.
+ * @author Eliyahu Tamarkin
+ */
+public class BenchmarkRunner {
+
+    private static final String ALL_BENCHMARKS = BenchmarkRunner.class.getPackage().getName() + ".*";
+
+    /**
+     * Runs the benchmarks.
+     * @param args optional regular expression selecting the benchmarks to run, all of them by default
+     * @throws RunnerException in case running the benchmarks failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ALL_BENCHMARKS;
+        new Runner(new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package benchmarks;
+
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import src.audio.AudioBackend;
+import src.audio.AudioDispatcher;
+import src.gameobjects.CullingSweep;
+import src.gameobjects.GameObjectPool;
+import src.gameobjects.PuckBall;
+import src.levels.LevelDescription;
+import src.physics.SweptBodies;
+import src.profiling.PerformanceMonitor;
+
+/**
+ * The following class benchmarks the culling sweep over a pool of live puck balls, both when none of
+ * them left the game, which is the cost paid every simulation step, and when all of them left it at
+ * once and are culled in bulk.
+ * @author Eliyahu Tamarkin
+ */
+@State(Scope.Thread)
+public class CullingBenchmark {
+
+    private static final Vector2 PUCK_BALL_DIMENSIONS = new Vector2(22.5f, 22.5f);
+
+    /**
+     * Amount of live puck balls in the pool
+     */
+    @Param({"100", "1000", "5000"})
+    public int liveObjects;
+
+    private GameObjectCollection gameObjects;
+    private SweptBodies sweptBodies;
+    private GameObjectPool<PuckBall> pool;
+    private CullingSweep cullingSweep;
+    private Vector2 insidePosition;
+    private Vector2 belowPosition;
+
+    /**
+     * Creates the game and fills the pool with live puck balls inside the window
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkGame game = new BenchmarkGame(LevelDescription.defaultLevel(BenchmarkGame.SEED));
+        gameObjects = game.getGameObjects();
+        Vector2 windowDimensions = game.getWindowDimensions();
+        insidePosition = windowDimensions.mult(0.5f);
+        belowPosition = new Vector2(insidePosition.x(), windowDimensions.y() + 1);
+        AudioDispatcher audioDispatcher = new AudioDispatcher(AudioBackend.SILENT);
+        pool = new GameObjectPool<>(puckBallPool -> new PuckBall(Vector2.ZERO, PUCK_BALL_DIMENSIONS,
+                null, null, audioDispatcher, 0, new PerformanceMonitor()), liveObjects, liveObjects);
+        sweptBodies = game.getSweptBodies();
+        cullingSweep = new CullingSweep(gameObjects, sweptBodies, windowDimensions.y());
+        cullingSweep.addPool(pool);
+        spawnAll();
+    }
+
+    /**
+     * Sweeps the pool while all of its puck balls are inside the window
+     * @return amount of culled puck balls
+     */
+    @Benchmark
+    public int sweepNoneCulled() {
+        return cullingSweep.sweep();
+    }
+
+    /**
+     * Moves all puck balls below the window, culls them in a single sweep and spawns them again
+     * @return amount of culled puck balls
+     */
+    @Benchmark
+    public int sweepAllCulled() {
+        pool.forEachLive(puckBall -> puckBall.setTopLeftCorner(belowPosition));
+        int culled = cullingSweep.sweep();
+        spawnAll();
+        return culled;
+    }
+
+    /**
+     * Helper function spawning puck balls inside the window until the pool is full
+     */
+    private void spawnAll() {
+        PuckBall puckBall;
+        while ((puckBall = pool.spawn()) != null) {
+            puckBall.setTopLeftCorner(insidePosition);
+            gameObjects.addGameObject(puckBall);
+            sweptBodies.register(puckBall);
+        }
+    }
+}
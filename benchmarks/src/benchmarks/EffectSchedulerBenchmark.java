@@ -0,0 +1,90 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import src.effects.EffectScheduler;
+
+/**
+ * The following class benchmarks the effect scheduler with thousands of pending effects: scheduling
+ * and cancelling an effect, and a hit of a target that has pending effects, which re-registers the
+ * effects that expired so the amount of pending effects stays the same.
+ * @author Eliyahu Tamarkin
+ */
+@State(Scope.Thread)
+public class EffectSchedulerBenchmark {
+
+    private static final int HIT_TARGETS = 64;
+    private static final int EFFECT_HITS = 8;
+
+    /**
+     * Amount of pending effects
+     */
+    @Param({"1000", "10000"})
+    public int pendingEffects;
+
+    private EffectScheduler effectScheduler;
+    private Object[] targets;
+    private Object untargeted;
+    private int nextTarget;
+    private long expired;
+
+    /**
+     * Creates the scheduler and registers the pending effects, spread over the targets
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        effectScheduler = new EffectScheduler();
+        targets = new Object[HIT_TARGETS];
+        for (int i = 0; i < HIT_TARGETS; i++) {
+            targets[i] = new Object();
+        }
+        untargeted = new Object();
+        for (int i = 0; i < pendingEffects; i++) {
+            scheduleHit(targets[i % HIT_TARGETS], 1 + i % EFFECT_HITS);
+        }
+    }
+
+    /**
+     * Schedules an effect on a target of its own and cancels it right away
+     * @return amount of pending effects
+     */
+    @Benchmark
+    public int scheduleAndCancel() {
+        effectScheduler.cancel(effectScheduler.afterHits(untargeted, EFFECT_HITS, this::onExpire));
+        return effectScheduler.getPendingCount();
+    }
+
+    /**
+     * Reports a hit of the next target, expiring and re-registering the effects waiting for its hit
+     * @return amount of effects expired so far
+     */
+    @Benchmark
+    public long recordHit() {
+        effectScheduler.recordHit(targets[nextTarget]);
+        nextTarget = (nextTarget + 1) % HIT_TARGETS;
+        return expired;
+    }
+
+    /**
+     * Helper function scheduling an effect that is scheduled again once it expires
+     * @param target the object whose hits are counted
+     * @param hits amount of hits until the effect expires
+     */
+    private void scheduleHit(Object target, int hits) {
+        effectScheduler.afterHits(target, hits, () -> {
+            onExpire();
+            scheduleHit(target, EFFECT_HITS);
+        });
+    }
+
+    /**
+     * Helper function counting an expired effect
+     */
+    private void onExpire() {
+        expired++;
+    }
+}
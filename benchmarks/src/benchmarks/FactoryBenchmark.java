@@ -0,0 +1,38 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import src.brick_strategies.CollisionStrategy;
+import src.brick_strategies.CollisionStrategyFactory;
+import src.levels.LevelDescription;
+
+/**
+ * The following class benchmarks picking the collision strategy of a brick with the strategy factory.
+ * @author Eliyahu Tamarkin
+ */
+@State(Scope.Thread)
+public class FactoryBenchmark {
+
+    private CollisionStrategyFactory factory;
+
+    /**
+     * Creates the game and the factory
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkGame game = new BenchmarkGame(LevelDescription.defaultLevel(BenchmarkGame.SEED));
+        factory = game.createStrategyFactory(game.createBall());
+    }
+
+    /**
+     * Picks a random strategy the way the bricks of a level are given one
+     * @return the picked strategy
+     */
+    @Benchmark
+    public CollisionStrategy getStrategy() {
+        return factory.getStrategy();
+    }
+}
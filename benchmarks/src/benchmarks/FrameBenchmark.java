@@ -0,0 +1,103 @@
+package benchmarks;
+
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import src.BrickerGameManager;
+import src.GameOutcome;
+import src.gameobjects.Ball;
+import src.levels.LevelDescription;
+import src.levels.LevelGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The following class benchmarks a full headless tick of the game manager at different amounts of
+ * bricks and balls.
+ * A fresh game is created for every iteration. Balls other than the main ball are placed at random in
+ * the lower half of the window, and are placed there again whenever they leave the window, so the
+ * amount of balls stays the same throughout the iteration. A game that was won or lost is reset in
+ * place, so every tick simulates a game in progress rather than an empty frame.
+ * @author Eliyahu Tamarkin
+ */
+@State(Scope.Thread)
+public class FrameBenchmark {
+
+    private static final float DELTA_TIME = 1f / 80;
+    private static final float BALL_SPEED = 300;
+    private static final String SIZE_SEPARATOR = "x";
+
+    /**
+     * Size of the level's brick wall, as rows x columns
+     */
+    @Param({"5x8", "10x100", "100x100"})
+    public String bricks;
+
+    /**
+     * Amount of balls in the game, including the main ball
+     */
+    @Param({"1", "16", "64"})
+    public int balls;
+
+    private BrickerGameManager gameManager;
+    private Vector2 windowDimensions;
+    private final List<Ball> extraBalls = new ArrayList<>();
+    private SplittableRandom rnd;
+
+    /**
+     * Creates a fresh game with the benchmarked amounts of bricks and balls
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        String[] size = bricks.split(SIZE_SEPARATOR);
+        LevelDescription level = LevelGenerator.generate(BenchmarkGame.SEED, Integer.parseInt(size[0]),
+                Integer.parseInt(size[1]), BrickerGameManager.WINDOW_DIMENSIONS);
+        BenchmarkGame game = new BenchmarkGame(level);
+        gameManager = game.getGameManager();
+        windowDimensions = game.getWindowDimensions();
+        rnd = new SplittableRandom(BenchmarkGame.SEED);
+        extraBalls.clear();
+        for (int i = 1; i < balls; i++) {
+            Ball ball = game.createBall();
+            placeBall(ball);
+            game.getGameObjects().addGameObject(ball);
+            game.getSweptBodies().register(ball);
+            extraBalls.add(ball);
+        }
+    }
+
+    /**
+     * Runs a single tick of the game, resetting it first if it has ended
+     * @return the game manager
+     */
+    @Benchmark
+    public BrickerGameManager tick() {
+        if (gameManager.getGameOutcome() != GameOutcome.IN_PROGRESS) {
+            gameManager.softReset();
+        }
+        gameManager.update(DELTA_TIME);
+        for (Ball ball : extraBalls) {
+            if (ball.getCenter().y() > windowDimensions.y()) {
+                placeBall(ball);
+            }
+        }
+        return gameManager;
+    }
+
+    /**
+     * Places a ball at random in the lower half of the window, moving diagonally upwards
+     * @param ball ball to place
+     */
+    private void placeBall(Ball ball) {
+        ball.setCenter(new Vector2(rnd.nextInt((int) windowDimensions.x()),
+                windowDimensions.y() / 2 + rnd.nextInt((int) windowDimensions.y() / 2)));
+        float horizontal = rnd.nextBoolean() ? 1 : -1;
+        ball.setVelocity(new Vector2(horizontal, -1).normalized().mult(BALL_SPEED));
+    }
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import src.brick_strategies.CollisionStrategyFactory;
+import src.gameobjects.Ball;
+import src.gameobjects.GameObjectPool;
+import src.gameobjects.Heart;
+import src.gameobjects.PuckBall;
+import src.levels.LevelDescription;
+
+/**
+ * The following class benchmarks the ball's reflection and the spawning and removal of the transient
+ * game objects.
+ * The reflection is benchmarked through Ball.bounce, which holds the whole body of
+ * Ball.onCollisionEnter, since collisions can only be created by the engine.
+ * @author Eliyahu Tamarkin
+ */
+@State(Scope.Thread)
+public class GameObjectBenchmark {
+
+    private static final float BALL_SPEED = 300;
+
+    private GameObjectCollection gameObjects;
+    private GameObjectPool<PuckBall> puckBallPool;
+    private GameObjectPool<Heart> heartPool;
+    private Ball ball;
+
+    /**
+     * Creates the game, the ball and the pools
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkGame game = new BenchmarkGame(LevelDescription.defaultLevel(BenchmarkGame.SEED));
+        gameObjects = game.getGameObjects();
+        ball = game.createBall();
+        ball.setVelocity(new Vector2(1, 1).normalized().mult(BALL_SPEED));
+        CollisionStrategyFactory factory = game.createStrategyFactory(ball);
+        puckBallPool = factory.getPuckBallPool();
+        heartPool = factory.getHeartPool();
+    }
+
+    /**
+     * Reflects the ball off a horizontal surface
+     * @return the reflected ball
+     */
+    @Benchmark
+    public Ball bounce() {
+        ball.bounce(Vector2.UP);
+        return ball;
+    }
+
+    /**
+     * Spawns a puck ball, adds it to the game, and removes and releases it again
+     * @return the spawned puck ball
+     */
+    @Benchmark
+    public PuckBall spawnAndRemovePuckBall() {
+        PuckBall puckBall = puckBallPool.spawn();
+        gameObjects.addGameObject(puckBall);
+        gameObjects.removeGameObject(puckBall);
+        puckBallPool.release(puckBall);
+        return puckBall;
+    }
+
+    /**
+     * Spawns a heart, adds it to the game, and removes and releases it again
+     * @return the spawned heart
+     */
+    @Benchmark
+    public Heart spawnAndRemoveHeart() {
+        Heart heart = heartPool.spawn();
+        gameObjects.addGameObject(heart);
+        gameObjects.removeGameObject(heart);
+        heartPool.release(heart);
+        return heart;
+    }
+}
@@ -0,0 +1,133 @@
+package benchmarks;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Counter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import src.brick_strategies.CollisionStrategy;
+import src.brick_strategies.CollisionStrategyFactory;
+import src.brick_strategies.HeartCreationStrategy;
+import src.brick_strategies.PuckBallStrategy;
+import src.brick_strategies.RemoveBrickStrategy;
+import src.gameobjects.Ball;
+import src.gameobjects.BrickGrid;
+import src.gameobjects.GameObjectCommandBuffer;
+import src.gameobjects.GameObjectPool;
+import src.gameobjects.Poolable;
+import src.levels.LevelDescription;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The following class benchmarks playing every type of collision strategy. Besides the strategies
+ * compiled by the factory, a double strategy built as a chain of strategies decorating one another is
+ * played for comparison with the compiled DOUBLE strategy.
+ * Strategies are played against a brick which is not part of the game, so that every invocation
+ * plays the same strategy against the same game. The puck balls and hearts spawned by an invocation
+ * are released after it, outside of the measurement, so the pools never reach their caps. The paddle
+ * and camera strategies act only on their first invocation, like they do during a game, so their
+ * measurement is of the check that follows.
+ * @author Eliyahu Tamarkin
+ */
+@State(Scope.Thread)
+public class StrategyBenchmark {
+
+    /**
+     * Strategy codes by name, see CollisionStrategyFactory.pickStrategyCode: every behaviour takes 3
+     * bits, innermost first, where 1 stands for puck balls, 2 for a paddle, 3 for the camera and 4 for
+     * a heart.
+     */
+    private static final Map<String, Integer> STRATEGY_CODES = new HashMap<>();
+
+    static {
+        STRATEGY_CODES.put("REGULAR", 0);
+        STRATEGY_CODES.put("PUCK_BALLS", 1);
+        STRATEGY_CODES.put("PADDLE", 2);
+        STRATEGY_CODES.put("CAMERA", 3);
+        STRATEGY_CODES.put("HEART", 4);
+        STRATEGY_CODES.put("DOUBLE", 1 | 4 << 3);
+        STRATEGY_CODES.put("TRIPLE", 1 | 2 << 3 | 4 << 6);
+    }
+
+    private static final String DECORATED_DOUBLE = "DECORATED_DOUBLE";
+
+    @Param({"REGULAR", "PUCK_BALLS", "PADDLE", "CAMERA", "HEART", "DOUBLE", "TRIPLE", DECORATED_DOUBLE})
+    public String strategy;
+
+    private BenchmarkGame game;
+    private CollisionStrategyFactory factory;
+    private CollisionStrategy collisionStrategy;
+    private GameObject brick;
+    private Ball ball;
+    private Counter bricksCounter;
+
+    /**
+     * Creates the game and the strategy to play
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        LevelDescription level = LevelDescription.defaultLevel(BenchmarkGame.SEED);
+        game = new BenchmarkGame(level);
+        ball = game.createBall();
+        factory = game.createStrategyFactory(ball);
+        if (strategy.equals(DECORATED_DOUBLE)) {
+            GameObjectCollection gameObjects = game.getGameObjects();
+            GameObjectCommandBuffer commandBuffer = game.getCommandBuffer();
+            BrickGrid brickGrid = new BrickGrid(gameObjects, game.getSweptBodies(), level.getOrigin(),
+                    level.getCellDimensions(), level.getRows(), level.getColumns(),
+                    game.getGameManager().getPerformanceMonitor());
+            collisionStrategy = new PuckBallStrategy(
+                    new HeartCreationStrategy(new RemoveBrickStrategy(commandBuffer, brickGrid),
+                            commandBuffer, factory.getHeartPool()),
+                    commandBuffer, factory.getPuckBallPool(), new SplittableRandom(BenchmarkGame.SEED));
+        }
+        else {
+            collisionStrategy = factory.buildStrategy(STRATEGY_CODES.get(strategy));
+        }
+        brick = new GameObject(level.getOrigin(), level.getBrickDimensions(), null);
+        bricksCounter = new Counter(level.getRows() * level.getColumns());
+    }
+
+    /**
+     * Applies the additions and removals queued by the last invocation, and releases the puck balls
+     * and hearts it spawned
+     */
+    @TearDown(Level.Invocation)
+    public void releaseSpawned() {
+        game.getCommandBuffer().flush();
+        releaseAll(factory.getPuckBallPool(), game.getGameObjects());
+        releaseAll(factory.getHeartPool(), game.getGameObjects());
+    }
+
+    /**
+     * Plays the benchmarked strategy
+     * @return the bricks counter, so the invocation is not optimized away
+     */
+    @Benchmark
+    public Counter onCollision() {
+        collisionStrategy.onCollision(brick, ball, bricksCounter);
+        return bricksCounter;
+    }
+
+    /**
+     * Removes every live object of a pool from the game and releases it
+     * @param pool the pool
+     * @param gameObjects the game objects the pool's objects were added to
+     * @param <T> type of the pooled objects
+     */
+    static <T extends GameObject & Poolable> void releaseAll(GameObjectPool<T> pool,
+                                                            GameObjectCollection gameObjects) {
+        pool.forEachLive(object -> {
+            gameObjects.removeGameObject(object);
+            pool.release(object);
+        });
+    }
+}
@@ -7,12 +7,34 @@ import danogl.GameManager;
 import danogl.GameObject;
 import danogl.gui.*;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.assets.AssetRegistry;
+import src.audio.AudioBackend;
+import src.audio.AudioDispatcher;
+import src.audio.SoundAudioBackend;
 import src.brick_strategies.CollisionStrategyFactory;
+import src.effects.EffectScheduler;
 import src.gameobjects.*;
+import src.levels.LevelDescription;
+import src.levels.LevelGenerator;
+import src.physics.BoxObstacle;
+import src.physics.SweptBodies;
+import src.physics.SweptCollisionWorld;
+import src.profiling.FrameBudgetGovernor;
+import src.profiling.PerformanceMonitor;
+import src.profiling.PerformanceOverlay;
+import src.profiling.StartupMetrics;
+import src.replay.GameSnapshot;
+import src.replay.ReplayRecorder;
+import src.utils.ObservableCounter;
+import src.utils.RandomService;
 
 import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The following class represents the manager of the bricker game.
@@ -20,8 +42,25 @@ import java.awt.event.KeyEvent;
  */
 public class BrickerGameManager extends GameManager {
 
-    private static final String WINDOW_TITLE = "Bricker";
-    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    /**
+     * The title of the game's window
+     */
+    public static final String WINDOW_TITLE = "Bricker";
+
+    /**
+     * The dimensions of the game's window when playing the original level
+     */
+    public static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+
+    /**
+     * The amount of simulation steps per second the game runs at by default
+     */
+    public static final int DEFAULT_TICK_RATE = 80;
+
+    //simulation
+    private static final int TARGET_FRAMERATE = 80;
+    private static final int MAX_CATCH_UP_STEPS = 5;
+    private static final double STEP_TOLERANCE = 1e-9;
 
     //background
     private static final String BACKGROUND_IMAGE_PATH = "assets/DARK_BG2_small.jpeg";
@@ -30,13 +69,12 @@ public class BrickerGameManager extends GameManager {
     private static final int WALL_OFFSET = 1;
     private static final int WALL_DIM = 1;
     private static final Vector2 TOP_LEFT_OFFSET_CORNER = new Vector2(0, WALL_OFFSET);
-    private static final Vector2 TOP_RIGHT_OFFSET_CORNER = new Vector2(WINDOW_DIMENSIONS.x(),
-            WALL_OFFSET);
 
     //ball
     private static final String BALL_IMAGE_PATH = "assets/ball.png";
     private static final String BALL_COLLISION_SOUND_PATH = "assets/blop.wav";
     private static final Vector2 BALL_DIMENSIONS = new Vector2(30, 30);
+    private static final int BALL_SOUND_PRIORITY = 1;
     private static final int BALL_SPEED = 300;
 
     //paddle
@@ -46,23 +84,25 @@ public class BrickerGameManager extends GameManager {
 
     //brick
     private static final String BRICK_IMAGE_PATH = "assets/brick.png";
-    private static final Vector2 BRICK_DIMENSIONS =  new Vector2(90, 20);
-    private static final Vector2 BRICKS_INITIAL_POSITION = new Vector2(20,5 );
-    private static final Vector2 DISTANCE_BETWEEN_BRICKS =  new Vector2(95, 0);
-    private static final int BRICK_ROWS_AMOUNT = 8;
-    private static final int BRICK_IN_ROW_AMOUNT = 7;
+    private static final int BRICK_FIELD_THRESHOLD = 1000;
 
     //graph life counter
     private static final String HEART_IMAGE_PATH = "assets/heart.png";
     private static final int NUM_OF_LIVES = 3;
     private static final Vector2 HEART_DIMENSIONS =  new Vector2(25, 25);
-    private static final Vector2 HEARTS_INITIAL_POSITION =
-            new Vector2(0, WINDOW_DIMENSIONS.y() - 25);
 
     //numeric life counter
     private static final Vector2 LIVES_COUNTER_DIMENSIONS = HEART_DIMENSIONS;
 
 
+    //performance overlay
+    private static final int PERFORMANCE_OVERLAY_KEY = KeyEvent.VK_F3;
+
+    private static final String RECORD_ARGUMENT = "--record";
+    private static final String TICK_RATE_ARGUMENT = "--tick-rate";
+    private static final String AUTOPILOT_ARGUMENT = "--autopilot";
+    private static final String OPTION_PREFIX = "--";
+
     //messages
     private static final String WIN_MESSAGE ="You Won! ";
     private static final String LOSE_MESSAGE ="You Lost! ";
@@ -70,27 +110,76 @@ public class BrickerGameManager extends GameManager {
 
 
 
+    private final LevelDescription level;
+    private final Vector2 windowDimensions;
+    private final RandomService randomService;
+    private final AudioDispatcher audioDispatcher = new AudioDispatcher(new SoundAudioBackend());
+    private final StartupMetrics startupMetrics = new StartupMetrics();
+    private final FrameBudgetGovernor frameBudgetGovernor =
+            new FrameBudgetGovernor(1.0 / TARGET_FRAMERATE);
+    private final PerformanceMonitor performanceMonitor = new PerformanceMonitor();
     private Ball ball;
 
     private Paddle userPaddle;
+    private PaddleController paddleController;
+    private boolean autopilot;
+    private boolean cachedBrickRendering = true;
+    private boolean textureAtlas = true;
     private WindowController windowController;
-    private Counter numOfBricks;
+    private ObservableCounter numOfBricks;
+    private ObservableCounter numOfLives;
+    private boolean bricksCleared;
+    private boolean livesOver;
 
-    private final Counter numOfLives = new Counter(NUM_OF_LIVES);
     private UserInputListener userInputListener;
+    private AssetRegistry assetRegistry;
+    private GameOutcome gameOutcome = GameOutcome.IN_PROGRESS;
+    private ReplayRecorder replayRecorder;
+    private PerformanceOverlay performanceOverlay;
+    private int tickRate = DEFAULT_TICK_RATE;
+    private double accumulatedTime;
+    private SweptBodies sweptBodies;
+    private SweptCollisionWorld sweptCollisionWorld;
+    private BrickGrid brickGrid;
+    private BrickField brickField;
+    private Renderable gridBrickImage;
+    private CollisionStrategyFactory collisionStrategyFactory;
+    private CullingSweep cullingSweep;
+    private GameObjectCommandBuffer commandBuffer;
+    private EffectScheduler effectScheduler;
+    private CompletableFuture<Void> assetsLoaded;
+    private boolean interactive;
 
 
     /**
-     * Constructs a new BrickerGameManager instance.
+     * Constructs a new BrickerGameManager instance playing the original level.
      * @param windowTitle title to be displayed upon the window
      * @param windowDimensions the window dimensions to be set
      */
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions){
-        super(windowTitle, windowDimensions);
+        this(windowTitle, LevelDescription.defaultLevel(windowDimensions, System.nanoTime()));
     }
 
     /**
-     * initializes the bricker game
+     * Constructs a new BrickerGameManager instance playing a given level. All randomness of the
+     * games played is derived from the level's seed, so a manager of the same level plays the same
+     * games given the same input. Every game played picks the strategies of the bricks anew.
+     * @param windowTitle title to be displayed upon the window
+     * @param level the level to be played
+     */
+    public BrickerGameManager(String windowTitle, LevelDescription level){
+        super(windowTitle, level.getWindowDimensions());
+        this.level = level;
+        this.windowDimensions = level.getWindowDimensions();
+        this.randomService = new RandomService(level.getSeed());
+    }
+
+    /**
+     * initializes the bricker game. All assets start loading in parallel in the background, and the
+     * game waits only for the background and the paddle, so that the first frame is shown as soon as
+     * possible. The rest of the game's objects are added by the first update after all assets are
+     * loaded, which is when the game becomes interactive. The autopilot follows the ball, so games
+     * played by it wait for the ball as well.
      * @param imageReader Contains a single method: readImage, which reads an image from disk.
      *                 See its documentation for help.
      * @param soundReader Contains a single method: readSound, which reads a wav file from
@@ -104,21 +193,44 @@ public class BrickerGameManager extends GameManager {
     @Override
     public void initializeGame(ImageReader imageReader, SoundReader soundReader,
                                UserInputListener inputListener, WindowController windowController) {
+        startupMetrics.markStart();
         super.initializeGame(imageReader, soundReader, inputListener, windowController);
         this.windowController = windowController;
         this.userInputListener = inputListener;
-        windowController.setTargetFramerate(80);
-        initializeBackground(imageReader);
+        this.gameOutcome = GameOutcome.IN_PROGRESS;
+        this.accumulatedTime = 0;
+        this.sweptBodies = new SweptBodies();
+        this.sweptCollisionWorld = new SweptCollisionWorld(sweptBodies);
+        this.commandBuffer = new GameObjectCommandBuffer(gameObjects(), sweptBodies);
+        this.effectScheduler = new EffectScheduler();
+        this.cullingSweep = new CullingSweep(gameObjects(), sweptBodies, windowDimensions.y());
+        cullingSweep.subscribe(this::onKillPlaneCrossed);
+        frameBudgetGovernor.clearCappedPools();
+        initializeLives();
+        windowController.setTargetFramerate(TARGET_FRAMERATE);
+        this.interactive = false;
+        this.ball = null;
+        initializeAssets(imageReader, soundReader);
+        initializeBackground();
         initializeWalls();
-        initializeBall(imageReader, soundReader);
-        initializePaddle(inputListener, imageReader);
-        initializeBricks(imageReader, soundReader);
-        initializeGraphLifeCounter(imageReader);
-        initializeNumericLifeCounter();
+        if (autopilot){
+            initializeBall();
+        }
+        initializePaddle(inputListener);
+        performanceOverlay = null;
+        if (performanceMonitor.isEnabled()){
+            showPerformanceOverlay();
+        }
     }
 
     /**
-     * updates the games fields and state
+     * updates the games fields and state. The time passed is simulated in fixed steps of the tick
+     * rate, of which at most MAX_CATCH_UP_STEPS are taken per frame, so a slow frame does not make the
+     * following frames slower still. The effects due at a step expire at its end, and the objects
+     * added and removed during the step are then added and removed in a single batch. The moving
+     * objects are then drawn between their last two simulated positions, according to the time left
+     * over for the next step, unless the frame budget governor is shedding load. Until the game is
+     * interactive only the frames are counted and nothing is simulated or recorded.
      * @param deltaTime The time, in seconds, that passed since the last invocation
      *                  of this method (i.e., since the last frame). This is useful
      *                  for either accumulating the total time that passed since some
@@ -128,19 +240,263 @@ public class BrickerGameManager extends GameManager {
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
-        checkForInvalidation();
-        checkForGameEnd();
+        startupMetrics.markFrame();
+        if (userInputListener.wasKeyPressedThisFrame(PERFORMANCE_OVERLAY_KEY)){
+            togglePerformanceOverlay();
+        }
+        if (!interactive){
+            if (!assetsLoaded.isDone()){
+                return;
+            }
+            finishStartup();
+        }
+        frameBudgetGovernor.beginFrame();
+        if (replayRecorder != null){
+            replayRecorder.recordTick(userInputListener, deltaTime);
+        }
+        accumulatedTime += deltaTime;
+        double stepTime = 1.0 / tickRate;
+        int steps = 0;
+        while (accumulatedTime + STEP_TOLERANCE >= stepTime && gameOutcome == GameOutcome.IN_PROGRESS){
+            if (steps == MAX_CATCH_UP_STEPS){
+                accumulatedTime = 0;
+                break;
+            }
+            sweptCollisionWorld.step((float) stepTime);
+            super.update((float) stepTime);
+            commandBuffer.flush();
+            accumulatedTime -= stepTime;
+            steps++;
+            cullingSweep.sweep();
+            checkForGameEnd();
+        }
+        if (!frameBudgetGovernor.shouldSkipCosmetics()){
+            interpolate((float) Math.max(0, Math.min(1, accumulatedTime / stepTime)));
+        }
+        frameBudgetGovernor.applyAudioVoices(audioDispatcher);
+        audioDispatcher.flush();
+        frameBudgetGovernor.endUpdate();
+    }
+
+    /**
+     * Completes the initialization of the game, waiting for the assets that are still loading.
+     * Windowed games complete it on their own once all assets are loaded, headless runs call this
+     * right after initializeGame, so that their first update already simulates the game.
+     */
+    public void awaitInteractive(){
+        if (!interactive){
+            assetsLoaded.join();
+            finishStartup();
+        }
+    }
+
+    /**
+     * adds the objects of the game whose assets were still loading when the first frame was shown,
+     * and starts the simulation
+     */
+    private void finishStartup(){
+        if (ball == null){
+            initializeBall();
+        }
+        initializeBricks();
+        initializeGraphLifeCounter();
+        initializeNumericLifeCounter();
+        commandBuffer.flush();
+        interactive = true;
+        startupMetrics.markInteractive();
+    }
+
+    /**
+     * Resets the game in place to the state a new game starts in, instead of throwing all of its
+     * objects away and initializing it again. The objects added by the strategies are removed, with the
+     * pooled ones released back to their pools, the bricks are laid again with newly picked strategies,
+     * and the ball, the paddle, the lives and the camera are restored, cancelling every pending effect.
+     * The assets, the strategies and the rest of the game's objects are kept. The time the reset takes
+     * is measured as the time to interactive of the startup metrics.
+     */
+    public void softReset(){
+        awaitInteractive();
+        startupMetrics.markStart();
+        collisionStrategyFactory.reset();
+        effectScheduler.clear();
+        setCamera(null);
+        if (brickField != null){
+            brickField.removeAllBricks();
+        }
+        else {
+            brickGrid.removeAllBricks();
+        }
+        numOfBricks.reset();
+        layBricks(LevelGenerator.pickStrategies(level, randomService.nextSeed()));
+        resetBall();
+        resetPaddle();
+        numOfLives.increaseBy(NUM_OF_LIVES - numOfLives.value());
+        gameOutcome = GameOutcome.IN_PROGRESS;
+        accumulatedTime = 0;
+        commandBuffer.flush();
+        startupMetrics.markInteractive();
+    }
+
+    /**
+     * Startup metrics getter
+     * @return the startup times of the current game
+     */
+    public StartupMetrics getStartupMetrics(){
+        return startupMetrics;
+    }
+
+    /**
+     * sets the point between their last two simulated positions the moving objects are drawn at
+     * @param alpha fraction of a simulation step that passed since the last step
+     */
+    private void interpolate(float alpha){
+        for (GameObject gameObject : gameObjects().objectsInLayer(Layer.DEFAULT)){
+            if (gameObject instanceof Interpolated){
+                ((Interpolated) gameObject).interpolate(alpha);
+            }
+        }
+    }
+
+    /**
+     * Sets the amount of simulation steps per second. Changing the tick rate changes how finely the
+     * game is simulated, not how fast it is played.
+     * @param tickRate simulation steps per second
+     */
+    public void setTickRate(int tickRate){
+        if (tickRate <= 0){
+            throw new IllegalArgumentException("tick rate must be positive");
+        }
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Sets whether the paddles of the games are moved by the autopilot instead of the user. Must be
+     * set before the game is initialized. Replays record the user's keys only, so games played by the
+     * autopilot cannot be replayed.
+     * @param autopilot true to play the games with the autopilot
+     */
+    public void setAutopilot(boolean autopilot){
+        this.autopilot = autopilot;
+    }
+
+    /**
+     * Sets whether the bricks are drawn from a single cached image, redrawn only where a brick was
+     * removed, rather than one by one every frame. Must be set before the game is initialized.
+     * @param cachedBrickRendering true to draw the bricks from a cached image
+     */
+    public void setCachedBrickRendering(boolean cachedBrickRendering){
+        this.cachedBrickRendering = cachedBrickRendering;
+    }
+
+    /**
+     * Sets whether the game's sprites are packed into a single texture atlas when they are loaded,
+     * rather than decoded into images of their own. Must be set before the game is first initialized.
+     * @param textureAtlas true to draw the sprites from a texture atlas
+     */
+    public void setTextureAtlas(boolean textureAtlas){
+        this.textureAtlas = textureAtlas;
+    }
+
+    /**
+     * Sets the backend the game's sounds are played on, e.g. AudioBackend.SILENT for headless runs
+     * @param audioBackend the backend
+     */
+    public void setAudioBackend(AudioBackend audioBackend){
+        audioDispatcher.setBackend(audioBackend);
+    }
+
+    /**
+     * Sets whether the game sheds load once its frames take longer than its frame budget. The caps of
+     * the live puck balls and hearts are enforced either way. Headless runs disable it, so that their
+     * results do not depend on the speed of the machine.
+     * @param loadShedding true to shed load while over budget
+     */
+    public void setLoadShedding(boolean loadShedding){
+        frameBudgetGovernor.setEnabled(loadShedding);
     }
 
     /**
-     * checks whether the user has been invalidated and updates the required fields
+     * Frame budget governor getter
+     * @return the governor keeping the game's frames within their budget
      */
-    private void checkForInvalidation(){
-        double ballHeight = ball.getCenter().y();
-        if (ballHeight > WINDOW_DIMENSIONS.y()){
+    public FrameBudgetGovernor getFrameBudgetGovernor(){
+        return frameBudgetGovernor;
+    }
+
+    /**
+     * Command buffer getter
+     * @return the buffer the game objects are added and removed through during a simulation step
+     */
+    public GameObjectCommandBuffer getCommandBuffer(){
+        return commandBuffer;
+    }
+
+    /**
+     * Swept bodies getter
+     * @return the balls and obstacles of the game, which objects added to or removed from the game
+     *         directly instead of through the command buffer must be registered with
+     */
+    public SweptBodies getSweptBodies(){
+        return sweptBodies;
+    }
+
+    /**
+     * Effect scheduler getter
+     * @return the scheduler the expiry of the game's timed effects is registered with
+     */
+    public EffectScheduler getEffectScheduler(){
+        return effectScheduler;
+    }
+
+    /**
+     * Audio dispatcher getter
+     * @return the dispatcher all sounds of the game are played through
+     */
+    public AudioDispatcher getAudioDispatcher(){
+        return audioDispatcher;
+    }
+
+    /**
+     * Tick rate getter
+     * @return the amount of simulation steps per second
+     */
+    public int getTickRate(){
+        return tickRate;
+    }
+
+    /**
+     * shows the performance overlay if it is hidden and hides it otherwise. The performance monitor
+     * measures only while the overlay is shown.
+     */
+    private void togglePerformanceOverlay(){
+        if (performanceOverlay == null){
+            performanceMonitor.setEnabled(true);
+            showPerformanceOverlay();
+        }
+        else {
+            gameObjects().removeGameObject(performanceOverlay, Layer.UI);
+            performanceOverlay = null;
+            performanceMonitor.setEnabled(false);
+        }
+    }
+
+    /**
+     * adds the performance overlay to the current game
+     */
+    private void showPerformanceOverlay(){
+        performanceOverlay = new PerformanceOverlay(Vector2.ZERO, gameObjects(), startupMetrics,
+                frameBudgetGovernor, performanceMonitor);
+        gameObjects().addGameObject(performanceOverlay, Layer.UI);
+    }
+
+    /**
+     * invalidates the user whenever the main ball left the game through the bottom of the window
+     * @param gameObject an object that crossed the kill plane of the culling sweep
+     */
+    private void onKillPlaneCrossed(GameObject gameObject){
+        if (gameObject == ball){
             numOfLives.decrement();
-            ball.setCenter(WINDOW_DIMENSIONS.mult(0.5F));
+            ball.setCenter(windowDimensions.mult(0.5F));
             ball.setVelocity(Vector2.DOWN.mult(BALL_SPEED));
         }
     }
@@ -152,17 +508,19 @@ public class BrickerGameManager extends GameManager {
         String prompt = "";
         if (checkForWin()){
             prompt = WIN_MESSAGE;
+            gameOutcome = GameOutcome.WON;
         }
         if (checkForLose()){
             prompt = LOSE_MESSAGE;
+            gameOutcome = GameOutcome.LOST;
         }
         if (!prompt.isEmpty()){
+            if (replayRecorder != null){
+                replayRecorder.finish(createSnapshot());
+            }
             prompt += PLAY_AGAIN_MESSAGE;
             if (windowController.openYesNoDialog(prompt)){
-                numOfLives.reset();
-                numOfLives.increaseBy(NUM_OF_LIVES);
-                SecondaryPaddle.numOfInstances = 0;
-                windowController.resetGame();
+                softReset();
             }
             else {
                 windowController.closeWindow();
@@ -171,33 +529,144 @@ public class BrickerGameManager extends GameManager {
     }
 
     /**
-     * The following function checks whether one of the win conditions is met
+     * The following function checks whether one of the win conditions is met. The bricks condition
+     * is kept up to date by the bricks counter notifications rather than read every frame.
      * @return true if any win condition holds and false otherwise
      */
     private boolean checkForWin(){
-        return userInputListener.isKeyPressed(KeyEvent.VK_W) || numOfBricks.value() <= 0;
+        return bricksCleared || userInputListener.isKeyPressed(KeyEvent.VK_W);
     }
 
     /**
-     * The following function checks whether one of the losing conditions is met
+     * The following function checks whether one of the losing conditions is met. The condition is
+     * kept up to date by the lives counter notifications rather than read every frame.
      * @return true if any lose condition holds and false otherwise
      */
     private boolean checkForLose(){
-        return numOfLives.value() <= 0;
+        return livesOver;
+    }
+
+    /**
+     * Game outcome getter
+     * @return the outcome of the current game, IN_PROGRESS as long as no end condition was met
+     */
+    public GameOutcome getGameOutcome(){
+        return gameOutcome;
+    }
+
+    /**
+     * Seed getter
+     * @return the seed all randomness of the manager's games is derived from
+     */
+    public long getSeed(){
+        return level.getSeed();
     }
 
-    public static void main(String[] args) {
-        new BrickerGameManager(WINDOW_TITLE, WINDOW_DIMENSIONS).run();
+    /**
+     * Sets a recorder the input of the first game played is recorded with. Must be set before the
+     * game is initialized. While recording, the frame budget governor does not reduce the caps of the
+     * live puck balls and hearts, so that the replay does not depend on the speed of the machine.
+     * @param replayRecorder the recorder, or null to stop recording
+     */
+    public void setReplayRecorder(ReplayRecorder replayRecorder){
+        this.replayRecorder = replayRecorder;
+        frameBudgetGovernor.setCapShedding(replayRecorder == null);
+    }
+
+    /**
+     * Takes a snapshot of the current state of the game
+     * @return the snapshot
+     */
+    public GameSnapshot createSnapshot(){
+        return new GameSnapshot(gameOutcome, numOfBricks.value(), numOfLives.value(), ball.getCenter());
+    }
+
+    /**
+     * Runs the bricker game.
+     * @param args optional path of a level description file to be played instead of the original
+     *             level, optionally followed by --tick-rate and the amount of simulation steps per
+     *             second, by --autopilot to have the paddles move on their own, and by --record and a
+     *             path the first game is recorded to
+     * @throws IOException in case the level description file could not be read
+     */
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = Arrays.asList(args);
+        int recordIndex = arguments.indexOf(RECORD_ARGUMENT);
+        int tickRateIndex = arguments.indexOf(TICK_RATE_ARGUMENT);
+        boolean hasLevelArgument = args.length > 0 && !args[0].startsWith(OPTION_PREFIX);
+        LevelDescription level = hasLevelArgument ? LevelDescription.load(Paths.get(args[0])) :
+                LevelDescription.defaultLevel(WINDOW_DIMENSIONS, System.nanoTime());
+        BrickerGameManager gameManager = new BrickerGameManager(WINDOW_TITLE, level);
+        gameManager.setAutopilot(arguments.contains(AUTOPILOT_ARGUMENT));
+        if (tickRateIndex >= 0 && tickRateIndex + 1 < args.length){
+            gameManager.setTickRate(Integer.parseInt(args[tickRateIndex + 1]));
+        }
+        if (recordIndex >= 0 && recordIndex + 1 < args.length){
+            gameManager.setReplayRecorder(new ReplayRecorder(level.getSeed(), gameManager.getTickRate(),
+                    Paths.get(args[recordIndex + 1])));
+        }
+        gameManager.run();
+    }
+
+    /**
+     * initializes the asset registry all of the games images and sounds are taken from and starts
+     * loading all of them in parallel in the background. The small sprites are packed into a texture
+     * atlas, unless it is disabled. The registry is kept across game resets, so that a new game does
+     * not decode the same assets again.
+     * @param imageReader reader to read the games images
+     * @param soundReader reader to read the games sounds
+     */
+    private void initializeAssets(ImageReader imageReader, SoundReader soundReader){
+        if (assetRegistry == null){
+            assetRegistry = new AssetRegistry(imageReader, soundReader);
+            if (textureAtlas){
+                assetRegistry.enableTextureAtlas();
+            }
+        }
+        assetRegistry.preloadImage(BACKGROUND_IMAGE_PATH, false);
+        assetRegistry.preloadSprite(PADDLE_IMAGE_PATH, false);
+        assetRegistry.preloadSprite(BALL_IMAGE_PATH, true);
+        assetRegistry.preloadSound(BALL_COLLISION_SOUND_PATH);
+        assetRegistry.preloadSprite(BRICK_IMAGE_PATH, false);
+        assetRegistry.preloadSprite(HEART_IMAGE_PATH, true);
+        CollisionStrategyFactory.preloadAssets(assetRegistry);
+        assetRegistry.packTextureAtlas();
+        assetsLoaded = assetRegistry.whenLoaded();
+    }
+
+    /**
+     * Asset registry getter
+     * @return the registry holding the games images and sounds
+     */
+    public AssetRegistry getAssetRegistry(){
+        return assetRegistry;
+    }
+
+    /**
+     * Performance monitor getter
+     * @return the monitor the game's objects and strategies are measured with
+     */
+    public PerformanceMonitor getPerformanceMonitor(){
+        return performanceMonitor;
+    }
+
+    /**
+     * initializes the lives counter of a new game. Every game gets a counter of its own, so that the
+     * objects of a previous game stop being notified of its changes.
+     */
+    private void initializeLives(){
+        numOfLives = new ObservableCounter(NUM_OF_LIVES);
+        livesOver = false;
+        numOfLives.subscribe(value -> livesOver = value <= 0);
     }
 
     /**
      * initializes the games background
-     * @param imageReader reader to read the background image
      */
-    private void initializeBackground(ImageReader imageReader){
-        Renderable backgroundImage = imageReader.readImage(BACKGROUND_IMAGE_PATH,
+    private void initializeBackground(){
+        Renderable backgroundImage = assetRegistry.getImage(BACKGROUND_IMAGE_PATH,
                 false);
-        GameObject background = new GameObject(Vector2.ZERO, WINDOW_DIMENSIONS,
+        GameObject background = new GameObject(Vector2.ZERO, windowDimensions,
                 backgroundImage);
         background.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
         this.gameObjects().addGameObject(background, Layer.BACKGROUND);
@@ -208,78 +677,185 @@ public class BrickerGameManager extends GameManager {
      */
     private void initializeWalls(){
         //top wall
-        this.gameObjects().addGameObject(new GameObject(TOP_LEFT_OFFSET_CORNER,
-                new Vector2(WINDOW_DIMENSIONS.x(), WALL_DIM), null));
+        addWall(new Wall(TOP_LEFT_OFFSET_CORNER,
+                new Vector2(windowDimensions.x(), WALL_DIM)));
         //left wall
-        this.gameObjects().addGameObject(new GameObject(TOP_LEFT_OFFSET_CORNER,
-                new Vector2(WALL_DIM, WINDOW_DIMENSIONS.y()), null));
+        addWall(new Wall(TOP_LEFT_OFFSET_CORNER,
+                new Vector2(WALL_DIM, windowDimensions.y())));
         //right wall
-        this.gameObjects().addGameObject(new GameObject(TOP_RIGHT_OFFSET_CORNER,
-                new Vector2(WALL_DIM, WINDOW_DIMENSIONS.y()), null));
+        addWall(new Wall(new Vector2(windowDimensions.x(), WALL_OFFSET),
+                new Vector2(WALL_DIM, windowDimensions.y())));
+    }
+
+    /**
+     * adds a wall to the game and to the obstacles the balls are swept against
+     * @param wall the wall
+     */
+    private void addWall(Wall wall){
+        this.gameObjects().addGameObject(wall);
+        sweptCollisionWorld.addObstacle(new BoxObstacle(wall));
     }
 
     /**
      * initializes the games ball
-     * @param imageReader reader to read the balls image
-     * @param soundReader reader to read the sound the ball will make upon collision
      */
-    private void initializeBall(ImageReader imageReader, SoundReader soundReader){
-        Renderable ballImage =  imageReader.readImage(BALL_IMAGE_PATH, true);
-        Sound collisionSound = soundReader.readSound(BALL_COLLISION_SOUND_PATH);
-        ball = new Ball(Vector2.ZERO, BALL_DIMENSIONS, ballImage, collisionSound);
-        ball.setVelocity(Vector2.DOWN.mult(BALL_SPEED));
-        ball.setCenter(WINDOW_DIMENSIONS.mult(0.5F));
+    private void initializeBall(){
+        Renderable ballImage =  assetRegistry.getSprite(BALL_IMAGE_PATH, true);
+        Sound collisionSound = assetRegistry.getSound(BALL_COLLISION_SOUND_PATH);
+        ball = new Ball(Vector2.ZERO, BALL_DIMENSIONS, ballImage, collisionSound, audioDispatcher,
+                BALL_SOUND_PRIORITY, performanceMonitor);
+        ball.setEffectScheduler(effectScheduler);
+        resetBall();
         this.gameObjects().addGameObject(ball);
+        sweptBodies.register(ball);
+        cullingSweep.watch(ball);
+    }
+
+    /**
+     * places the ball at the center of the window, falling down
+     */
+    private void resetBall(){
+        ball.setVelocity(Vector2.DOWN.mult(BALL_SPEED));
+        ball.setCenter(windowDimensions.mult(0.5F));
+        ball.resetCollisionCount();
     }
 
     /**
-     * initializes the games paddle
+     * initializes the games paddle, moved by the user or by the autopilot
      * @param inputListener listener to listen for any key press events in order to move the paddle
      *                      according to the requested key
-     * @param imageReader reader to read the paddle's image
-     */
-    private void initializePaddle(UserInputListener inputListener, ImageReader imageReader){
-        Renderable paddleImage =  imageReader.readImage(PADDLE_IMAGE_PATH, false);
-        this.userPaddle = new Paddle(Vector2.ZERO, PADDLE_DIMENSIONS, paddleImage, inputListener,
-                WINDOW_DIMENSIONS, PADDLE_MIN_DIST_FROM_EDGE);
-        userPaddle.setCenter(new Vector2(WINDOW_DIMENSIONS.x() / 2,
-                (int) WINDOW_DIMENSIONS.y() - 30));
+     */
+    private void initializePaddle(UserInputListener inputListener){
+        Renderable paddleImage =  assetRegistry.getSprite(PADDLE_IMAGE_PATH, false);
+        this.paddleController = autopilot ?
+                new AutopilotPaddleController(sweptBodies, ball, windowDimensions) :
+                new KeyboardPaddleController(inputListener);
+        this.userPaddle = new Paddle(Vector2.ZERO, PADDLE_DIMENSIONS, paddleImage, paddleController,
+                windowDimensions, PADDLE_MIN_DIST_FROM_EDGE, performanceMonitor);
+        resetPaddle();
         this.gameObjects().addGameObject(userPaddle);
+        sweptBodies.register(userPaddle);
+    }
+
+    /**
+     * places the paddle at the bottom center of the window
+     */
+    private void resetPaddle(){
+        userPaddle.setVelocity(Vector2.ZERO);
+        userPaddle.setCenter(new Vector2(windowDimensions.x() / 2,
+                (int) windowDimensions.y() - 30));
+    }
+
+    /**
+     * initializes the games bricks according to the level. The strategies of the bricks are picked
+     * in parallel and built afterwards. The bricks are held by a store which collides them with the
+     * balls, so the engine's pairwise collision between the balls and the bricks layer is turned off.
+     * Levels of up to BRICK_FIELD_THRESHOLD bricks are built of Brick game objects indexed by a grid,
+     * larger levels are kept in a data oriented brick field, which is always drawn by a brick layer.
+     * The bricks of a grid are drawn by a brick layer as well when cached brick rendering is on.
+     */
+    private void initializeBricks(){
+        numOfBricks = new ObservableCounter(0);
+        bricksCleared = false;
+        Renderable brickImage = assetRegistry.getSprite(BRICK_IMAGE_PATH, false);
+        int[] strategyCodes = LevelGenerator.pickStrategies(level, randomService.nextSeed());
+        if (level.getNumOfBricks() > BRICK_FIELD_THRESHOLD){
+            brickGrid = null;
+            brickField = new BrickField(sweptBodies, level.getOrigin(), level.getCellDimensions(),
+                    level.getBrickDimensions(), level.getRows(), level.getColumns(), numOfBricks,
+                    performanceMonitor);
+            collisionStrategyFactory = createStrategyFactory(brickField);
+            layBricks(strategyCodes);
+            this.gameObjects().addGameObject(brickField, Layer.STATIC_OBJECTS);
+            if (brickImage != null){
+                brickField.setBrickLayer(createBrickLayer(brickImage, cachedBrickRendering));
+            }
+            sweptCollisionWorld.addObstacle(brickField);
+        }
+        else {
+            brickField = null;
+            brickGrid = new BrickGrid(gameObjects(), sweptBodies, level.getOrigin(),
+                    level.getCellDimensions(), level.getRows(), level.getColumns(), performanceMonitor);
+            collisionStrategyFactory = createStrategyFactory(brickGrid);
+            boolean layered = cachedBrickRendering && brickImage != null;
+            gridBrickImage = layered ? null : brickImage;
+            layBricks(strategyCodes);
+            this.gameObjects().addGameObject(brickGrid);
+            sweptBodies.register(brickGrid);
+            if (layered){
+                brickGrid.setBrickLayer(createBrickLayer(brickImage, true));
+            }
+        }
+        this.gameObjects().layers().shouldLayersCollide(Layer.DEFAULT, Layer.STATIC_OBJECTS, false);
+        numOfBricks.subscribe(value -> bricksCleared = value <= 0);
     }
 
     /**
-     * initializes the games bricks
-     * @param imageReader reader to read the brick's image
-     */
-    private void initializeBricks(ImageReader imageReader, SoundReader soundReader){
-        numOfBricks = new Counter(0);
-        Renderable brickImage = imageReader.readImage(BRICK_IMAGE_PATH, false);
-        CollisionStrategyFactory collisionStrategyFactory = new CollisionStrategyFactory(gameObjects(),
-                imageReader, soundReader, userInputListener, this, windowController,
-                WINDOW_DIMENSIONS, userPaddle, ball, numOfLives, HEART_DIMENSIONS);
-        Vector2 brickPosition = BRICKS_INITIAL_POSITION;
-        for (int i = 0; i < BRICK_ROWS_AMOUNT; i++) {
-            for (int j = 0; j < BRICK_IN_ROW_AMOUNT; j++) {
-                CollisionStrategy strategy = collisionStrategyFactory.getStrategy();
-                Brick brick = new Brick(brickPosition, BRICK_DIMENSIONS, brickImage, strategy,
-                        numOfBricks);
-                this.gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
-                brickPosition = brickPosition.add(DISTANCE_BETWEEN_BRICKS);
+     * lays a brick in every cell of the level's brick store, with the strategies the given codes
+     * stand for
+     * @param strategyCodes strategy code of every cell, row by row
+     */
+    private void layBricks(int[] strategyCodes){
+        int rows = level.getRows();
+        int columns = level.getColumns();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                CollisionStrategy strategy =
+                        collisionStrategyFactory.buildStrategy(strategyCodes[i * columns + j]);
+                if (brickField != null){
+                    brickField.addBrick(i, j, strategy);
+                }
+                else {
+                    Brick brick = new Brick(brickGrid.getCellTopLeftCorner(i, j),
+                            level.getBrickDimensions(), gridBrickImage, strategy, numOfBricks,
+                            performanceMonitor);
+                    this.gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
+                    brickGrid.addBrick(brick, i, j);
+                }
                 numOfBricks.increment();
             }
-            brickPosition = BRICKS_INITIAL_POSITION.add(new Vector2(0, 20).mult(i + 1));
         }
     }
 
+    /**
+     * adds a layer drawing all of the level's bricks to the game
+     * @param brickImage image of a single brick
+     * @param cached true to draw the bricks from a cached image
+     * @return the layer
+     */
+    private BrickLayer createBrickLayer(Renderable brickImage, boolean cached){
+        BrickLayer brickLayer = new BrickLayer(level.getOrigin(), level.getCellDimensions(),
+                level.getBrickDimensions(), level.getRows(), level.getColumns(), brickImage, cached);
+        this.gameObjects().addGameObject(brickLayer, Layer.STATIC_OBJECTS);
+        return brickLayer;
+    }
+
+    /**
+     * creates the factory the strategies of the bricks are taken from, and culls its pooled objects
+     * @param brickContainer store holding the bricks
+     * @return the strategy factory
+     */
+    private CollisionStrategyFactory createStrategyFactory(BrickContainer brickContainer){
+        CollisionStrategyFactory factory = new CollisionStrategyFactory(commandBuffer, assetRegistry,
+                audioDispatcher, performanceMonitor, effectScheduler, paddleController, this,
+                windowController, windowDimensions, userPaddle, ball, numOfLives, HEART_DIMENSIONS,
+                brickContainer, randomService);
+        cullingSweep.addPool(factory.getPuckBallPool());
+        cullingSweep.addPool(factory.getHeartPool());
+        frameBudgetGovernor.addCappedPool(factory.getPuckBallPool());
+        frameBudgetGovernor.addCappedPool(factory.getHeartPool());
+        return factory;
+    }
+
     /**
      * initializes the graphic lives counter which displays the amount of hears left
-     * @param imageReader reader to read the heart's image
      */
-    private void initializeGraphLifeCounter(ImageReader imageReader){
-        Renderable heartImage = imageReader.readImage(HEART_IMAGE_PATH, true);
-        GraphicLifeCounter graphicLifeCounter = new GraphicLifeCounter(HEARTS_INITIAL_POSITION,
-                HEART_DIMENSIONS, numOfLives, heartImage, this.gameObjects(), NUM_OF_LIVES,
-                windowController);
+    private void initializeGraphLifeCounter(){
+        Renderable heartImage = assetRegistry.getSprite(HEART_IMAGE_PATH, true);
+        Vector2 heartsPosition = new Vector2(0, windowDimensions.y() - HEART_DIMENSIONS.y());
+        GraphicLifeCounter graphicLifeCounter = new GraphicLifeCounter(heartsPosition,
+                HEART_DIMENSIONS, numOfLives, heartImage, commandBuffer, NUM_OF_LIVES,
+                performanceMonitor);
         gameObjects().addGameObject(graphicLifeCounter, Layer.UI);
     }
 
@@ -0,0 +1,11 @@
+package src;
+
+/**
+ * The following enum represents the possible outcomes of a single bricker game.
+ * @author Eliyahu Tamarkin
+ */
+public enum GameOutcome {
+    IN_PROGRESS,
+    WON,
+    LOST
+}
@@ -0,0 +1,294 @@
+package src.assets;
+
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The following class is a central cache for the images and sounds of the game, keyed by their path.
+ * Every asset is decoded at most once, either on first request or ahead of time by a background
+ * preload, and every later request for the same path is served from the cache.
+ * A request for an asset that is still being preloaded waits for that load instead of decoding again.
+ * Once the texture atlas is enabled, the sprites preloaded by preloadSprite are read in parallel and
+ * packed into a single texture atlas, and getSprite returns their atlas regions. getSprite never waits
+ * for the atlas: a sprite requested while the atlas is still being packed, or which could not be read
+ * into it, is served as its cached image instead, and counted as an atlas miss.
+ * @author Eliyahu Tamarkin
+ */
+public class AssetRegistry {
+
+    private static final String TRANSPARENT_SUFFIX = "#transparent";
+
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+    private final Executor preloadExecutor;
+    private final Map<String, CompletableFuture<ImageRenderable>> images = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Sound>> sounds = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong atlasMisses = new AtomicLong();
+    private final Map<String, CompletableFuture<BufferedImage>> atlasSprites = new LinkedHashMap<>();
+    private boolean atlasEnabled;
+    private CompletableFuture<TextureAtlas> atlas;
+
+    /**
+     * Constructs a new AssetRegistry instance which preloads on the common fork join pool
+     * @param imageReader reader used to decode images on a cache miss
+     * @param soundReader reader used to decode sounds on a cache miss
+     */
+    public AssetRegistry(ImageReader imageReader, SoundReader soundReader) {
+        this(imageReader, soundReader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new AssetRegistry instance.
+     * @param imageReader reader used to decode images on a cache miss
+     * @param soundReader reader used to decode sounds on a cache miss
+     * @param preloadExecutor executor the background preloads run on
+     */
+    public AssetRegistry(ImageReader imageReader, SoundReader soundReader, Executor preloadExecutor) {
+        this.imageReader = imageReader;
+        this.soundReader = soundReader;
+        this.preloadExecutor = preloadExecutor;
+    }
+
+    /**
+     * Returns the image of the given path, decoding it only if it was never requested before
+     * @param imagePath path of the image
+     * @param useTopLeftPixelAsTransparent whether the top left pixel color should be transparent
+     * @return the cached image
+     */
+    public ImageRenderable getImage(String imagePath, boolean useTopLeftPixelAsTransparent) {
+        return lookup(images, imageKey(imagePath, useTopLeftPixelAsTransparent),
+                () -> imageReader.readImage(imagePath, useTopLeftPixelAsTransparent), null).join();
+    }
+
+    /**
+     * Returns the sound of the given path, decoding it only if it was never requested before
+     * @param soundPath path of the sound
+     * @return the cached sound
+     */
+    public Sound getSound(String soundPath) {
+        return lookup(sounds, soundPath, () -> soundReader.readSound(soundPath), null).join();
+    }
+
+    /**
+     * Starts decoding the given image in the background, unless it is already cached or loading
+     * @param imagePath path of the image
+     * @param useTopLeftPixelAsTransparent whether the top left pixel color should be transparent
+     * @return a future completed once the image is available
+     */
+    public CompletableFuture<ImageRenderable> preloadImage(String imagePath,
+                                                           boolean useTopLeftPixelAsTransparent) {
+        return lookup(images, imageKey(imagePath, useTopLeftPixelAsTransparent),
+                () -> imageReader.readImage(imagePath, useTopLeftPixelAsTransparent), preloadExecutor);
+    }
+
+    /**
+     * Starts decoding the given sound in the background, unless it is already cached or loading
+     * @param soundPath path of the sound
+     * @return a future completed once the sound is available
+     */
+    public CompletableFuture<Sound> preloadSound(String soundPath) {
+        return lookup(sounds, soundPath, () -> soundReader.readSound(soundPath), preloadExecutor);
+    }
+
+    /**
+     * Packs the sprites preloaded from now on into a texture atlas. Sprites are then drawn from the
+     * atlas instead of being decoded into images of their own.
+     */
+    public void enableTextureAtlas() {
+        atlasEnabled = true;
+    }
+
+    /**
+     * Starts reading the given sprite in the background, to be packed into the texture atlas. Without
+     * a texture atlas, or once the atlas was packed without the sprite, the sprite is preloaded as an
+     * image of its own.
+     * @param imagePath path of the image
+     * @param useTopLeftPixelAsTransparent whether the top left pixel color should be transparent
+     */
+    public void preloadSprite(String imagePath, boolean useTopLeftPixelAsTransparent) {
+        String key = imageKey(imagePath, useTopLeftPixelAsTransparent);
+        if (!atlasEnabled || (atlas != null && !atlasSprites.containsKey(key))) {
+            preloadImage(imagePath, useTopLeftPixelAsTransparent);
+            return;
+        }
+        atlasSprites.computeIfAbsent(key, ignored -> CompletableFuture.supplyAsync(
+                () -> readSprite(imagePath, useTopLeftPixelAsTransparent), preloadExecutor));
+    }
+
+    /**
+     * Packs the sprites preloaded so far into the texture atlas once they are read, in the
+     * background. Does nothing if the atlas is disabled or was already packed.
+     */
+    public void packTextureAtlas() {
+        if (!atlasEnabled || atlas != null || atlasSprites.isEmpty()) {
+            return;
+        }
+        Map<String, CompletableFuture<BufferedImage>> reads = new LinkedHashMap<>(atlasSprites);
+        atlas = CompletableFuture.allOf(reads.values().toArray(new CompletableFuture<?>[0]))
+                .thenApplyAsync(ignored -> {
+                    Map<String, BufferedImage> sprites = new HashMap<>();
+                    reads.forEach((key, read) -> {
+                        if (read.join() != null) {
+                            sprites.put(key, read.join());
+                        }
+                    });
+                    return TextureAtlas.pack(sprites);
+                }, preloadExecutor);
+    }
+
+    /**
+     * Returns the renderable of a sprite: its region of the texture atlas if the atlas is packed and
+     * holds the sprite, and its cached image otherwise. Never waits for the atlas to be packed.
+     * @param imagePath path of the image
+     * @param useTopLeftPixelAsTransparent whether the top left pixel color should be transparent
+     * @return the renderable of the sprite
+     */
+    public Renderable getSprite(String imagePath, boolean useTopLeftPixelAsTransparent) {
+        if (atlas != null) {
+            TextureAtlas packed = atlas.isDone() && !atlas.isCompletedExceptionally() ?
+                    atlas.join() : null;
+            AtlasRegion region = packed == null ? null :
+                    packed.getRegion(imageKey(imagePath, useTopLeftPixelAsTransparent));
+            if (region != null) {
+                hits.incrementAndGet();
+                return region;
+            }
+            atlasMisses.incrementAndGet();
+        }
+        return getImage(imagePath, useTopLeftPixelAsTransparent);
+    }
+
+    /**
+     * Returns a future completed once every asset requested or preloaded so far is available
+     * @return the future, completed exceptionally if any of the assets failed to load
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        List<CompletableFuture<?>> loads = new ArrayList<>(images.values());
+        loads.addAll(sounds.values());
+        if (atlas != null) {
+            loads.add(atlas);
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Hits getter
+     * @return number of requests that were served without decoding
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Misses getter
+     * @return number of requests that had to decode an asset
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Atlas misses getter
+     * @return number of sprite requests served as images of their own since the texture atlas was not
+     *         packed yet or did not hold the sprite
+     */
+    public long getAtlasMisses() {
+        return atlasMisses.get();
+    }
+
+    /**
+     * Cached assets getter
+     * @return number of distinct assets held by the registry
+     */
+    public int getCachedAssetsCount() {
+        return images.size() + sounds.size();
+    }
+
+    /**
+     * Helper function which looks an asset up and decodes it when it is missing
+     * @param cache the cache the asset belongs to
+     * @param key key of the asset
+     * @param loader decodes the asset
+     * @param executor executor to decode on, or null to decode on the calling thread
+     * @param <T> asset type
+     * @return a future of the asset
+     */
+    private <T> CompletableFuture<T> lookup(Map<String, CompletableFuture<T>> cache, String key,
+                                            Supplier<T> loader, Executor executor) {
+        CompletableFuture<T> cached = cache.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        CompletableFuture<T> created = new CompletableFuture<>();
+        cached = cache.putIfAbsent(key, created);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        if (executor == null) {
+            complete(created, loader);
+        } else {
+            executor.execute(() -> complete(created, loader));
+        }
+        return created;
+    }
+
+    /**
+     * Helper function which completes a future with the decoded asset, or with the decoding failure
+     * @param future future to complete
+     * @param loader decodes the asset
+     * @param <T> asset type
+     */
+    private static <T> void complete(CompletableFuture<T> future, Supplier<T> loader) {
+        try {
+            future.complete(loader.get());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Helper function reading a sprite to be packed into the texture atlas
+     * @param imagePath path of the image
+     * @param useTopLeftPixelAsTransparent whether the top left pixel color should be transparent
+     * @return the sprite, or null if it could not be read, in which case it is left out of the atlas
+     */
+    private static BufferedImage readSprite(String imagePath, boolean useTopLeftPixelAsTransparent) {
+        try {
+            return TextureAtlas.readSprite(imagePath, useTopLeftPixelAsTransparent);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Helper function building the cache key of an image
+     * @param imagePath path of the image
+     * @param useTopLeftPixelAsTransparent transparency flag the image is decoded with
+     * @return the cache key
+     */
+    private static String imageKey(String imagePath, boolean useTopLeftPixelAsTransparent) {
+        return useTopLeftPixelAsTransparent ? imagePath + TRANSPARENT_SUFFIX : imagePath;
+    }
+}
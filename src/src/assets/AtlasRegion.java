@@ -0,0 +1,81 @@
+package src.assets;
+
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * The following class draws a single sprite of a texture atlas, i.e. a rectangular region of the
+ * atlas image. It may be used wherever the sprite's own image renderable would be, and draws the
+ * sprite the same way, stretched over the given dimensions.
+ * @author Eliyahu Tamarkin
+ */
+public class AtlasRegion implements Renderable {
+
+    private final BufferedImage atlasImage;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    /**
+     * Constructs a new AtlasRegion instance.
+     * @param atlasImage the image of the atlas
+     * @param x left edge of the region in the atlas image, in pixels
+     * @param y top edge of the region in the atlas image, in pixels
+     * @param width width of the region, in pixels
+     * @param height height of the region, in pixels
+     */
+    AtlasRegion(BufferedImage atlasImage, int x, int y, int width, int height) {
+        this.atlasImage = atlasImage;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                       double degreesCounterClockwise, boolean isFlippedHorizontally,
+                       boolean isFlippedVertically, double opaqueness) {
+        int left = (int) topLeftCorner.x();
+        int top = (int) topLeftCorner.y();
+        int right = left + (int) dimensions.x();
+        int bottom = top + (int) dimensions.y();
+        AffineTransform transform = g.getTransform();
+        Composite composite = g.getComposite();
+        if (degreesCounterClockwise != 0) {
+            g.rotate(-Math.toRadians(degreesCounterClockwise), (left + right) / 2.0, (top + bottom) / 2.0);
+        }
+        if (opaqueness < 1) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opaqueness));
+        }
+        g.drawImage(atlasImage,
+                isFlippedHorizontally ? right : left, isFlippedVertically ? bottom : top,
+                isFlippedHorizontally ? left : right, isFlippedVertically ? top : bottom,
+                x, y, x + width, y + height, null);
+        g.setComposite(composite);
+        g.setTransform(transform);
+    }
+
+    /**
+     * Width getter
+     * @return width of the sprite, in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Height getter
+     * @return height of the sprite, in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,153 @@
+package src.assets;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The following class packs the small sprites of the game into a single image at load time, so that
+ * drawing the game's objects does not switch between many small images, and the sprites are held by
+ * one image instead of an image each.
+ * The sprites are packed into shelves, tallest first, with a transparent gap between neighbouring
+ * sprites, and every sprite is drawn by an atlas region of the packed image.
+ * @author Eliyahu Tamarkin
+ */
+public class TextureAtlas {
+
+    private static final int PADDING = 1;
+
+    private final BufferedImage image;
+    private final Map<String, AtlasRegion> regions;
+
+    /**
+     * Constructs a new TextureAtlas instance.
+     * @param image the packed image
+     * @param regions regions of the packed sprites, keyed as the sprites passed to pack
+     */
+    private TextureAtlas(BufferedImage image, Map<String, AtlasRegion> regions) {
+        this.image = image;
+        this.regions = regions;
+    }
+
+    /**
+     * Reads a sprite from disk the way the engine's image reader does
+     * @param imagePath path of the image
+     * @param useTopLeftPixelAsTransparent whether every pixel of the color of the top left pixel
+     *                                     should be transparent
+     * @return the sprite
+     * @throws IOException in case the image could not be read
+     */
+    public static BufferedImage readSprite(String imagePath, boolean useTopLeftPixelAsTransparent)
+            throws IOException {
+        BufferedImage read = ImageIO.read(new File(imagePath));
+        if (read == null) {
+            throw new IOException("unsupported image format: " + imagePath);
+        }
+        BufferedImage sprite = new BufferedImage(read.getWidth(), read.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sprite.createGraphics();
+        g.drawImage(read, 0, 0, null);
+        g.dispose();
+        if (useTopLeftPixelAsTransparent) {
+            int transparentColor = sprite.getRGB(0, 0) & 0xFFFFFF;
+            for (int y = 0; y < sprite.getHeight(); y++) {
+                for (int x = 0; x < sprite.getWidth(); x++) {
+                    if ((sprite.getRGB(x, y) & 0xFFFFFF) == transparentColor) {
+                        sprite.setRGB(x, y, 0);
+                    }
+                }
+            }
+        }
+        return sprite;
+    }
+
+    /**
+     * Packs sprites into a new atlas
+     * @param sprites the sprites, keyed by the name their regions are looked up with
+     * @return the atlas
+     */
+    public static TextureAtlas pack(Map<String, BufferedImage> sprites) {
+        List<String> keys = new ArrayList<>(sprites.keySet());
+        Collections.sort(keys);
+        keys.sort((first, second) -> sprites.get(second).getHeight() - sprites.get(first).getHeight());
+        int totalArea = 0;
+        int maxWidth = 1;
+        for (BufferedImage sprite : sprites.values()) {
+            totalArea += (sprite.getWidth() + PADDING) * (sprite.getHeight() + PADDING);
+            maxWidth = Math.max(maxWidth, sprite.getWidth() + PADDING);
+        }
+        int side = Math.max(maxWidth, (int) Math.ceil(Math.sqrt(totalArea)));
+        int atlasWidth = Integer.highestOneBit(side);
+        if (atlasWidth < side) {
+            atlasWidth <<= 1;
+        }
+        Map<String, int[]> positions = new HashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (String key : keys) {
+            BufferedImage sprite = sprites.get(key);
+            if (x + sprite.getWidth() > atlasWidth) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            positions.put(key, new int[]{x, y});
+            x += sprite.getWidth() + PADDING;
+            shelfHeight = Math.max(shelfHeight, sprite.getHeight());
+        }
+        BufferedImage image = new BufferedImage(atlasWidth, Math.max(1, y + shelfHeight),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        Map<String, AtlasRegion> regions = new HashMap<>();
+        for (String key : keys) {
+            BufferedImage sprite = sprites.get(key);
+            int[] position = positions.get(key);
+            g.drawImage(sprite, position[0], position[1], null);
+            regions.put(key, new AtlasRegion(image, position[0], position[1], sprite.getWidth(),
+                    sprite.getHeight()));
+        }
+        g.dispose();
+        return new TextureAtlas(image, regions);
+    }
+
+    /**
+     * Returns the region of a packed sprite
+     * @param key the key the sprite was packed with
+     * @return the region of the sprite, or null if it is not in the atlas
+     */
+    public AtlasRegion getRegion(String key) {
+        return regions.get(key);
+    }
+
+    /**
+     * Sprites getter
+     * @return amount of sprites in the atlas
+     */
+    public int getNumOfSprites() {
+        return regions.size();
+    }
+
+    /**
+     * Width getter
+     * @return width of the atlas image, in pixels
+     */
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    /**
+     * Height getter
+     * @return height of the atlas image, in pixels
+     */
+    public int getHeight() {
+        return image.getHeight();
+    }
+}
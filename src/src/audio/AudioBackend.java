@@ -0,0 +1,23 @@
+package src.audio;
+
+import danogl.gui.Sound;
+
+/**
+ * The following interface represents the device the sounds dispatched by an AudioDispatcher are
+ * played on. Sounds are played on the dispatcher's playback thread, never on the game's thread.
+ * @author Eliyahu Tamarkin
+ */
+public interface AudioBackend {
+
+    /**
+     * A backend which plays nothing, used by headless runs. A dispatcher over this backend does not
+     * start a playback thread at all.
+     */
+    AudioBackend SILENT = sound -> { };
+
+    /**
+     * Plays a single voice of a sound
+     * @param sound the sound to play
+     */
+    void play(Sound sound);
+}
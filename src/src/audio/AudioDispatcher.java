@@ -0,0 +1,205 @@
+package src.audio;
+
+import danogl.gui.Sound;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The following class collects the sounds the game's objects trigger during a frame and plays them
+ * once per frame, off the game's thread.
+ * Triggers of the same sound within a frame are merged into a single voice with the highest priority
+ * among them. Every sound plays at most MAX_VOICES_PER_SOUND voices at the same time: once all its
+ * voices are busy, a new voice takes the place of the lowest priority busy voice only if its own
+ * priority is higher, and is dropped otherwise. Since the engine cannot stop a sound that already
+ * started, a voice is considered busy for VOICE_DURATION_NANOS after it was played.
+ * trigger and flush are meant to be called by the game's thread only.
+ * @author Eliyahu Tamarkin
+ */
+public class AudioDispatcher {
+
+    /**
+     * Maximal amount of voices of a single sound playing at the same time
+     */
+    public static final int MAX_VOICES_PER_SOUND = 4;
+
+    private static final long VOICE_DURATION_NANOS = 150_000_000L;
+    private static final String PLAYBACK_THREAD_NAME = "audio-playback";
+
+    /**
+     * The following class holds the busy voices of a single sound
+     */
+    private static final class Voices {
+
+        private final long[] endTimes = new long[MAX_VOICES_PER_SOUND];
+        private final int[] priorities = new int[MAX_VOICES_PER_SOUND];
+        private final boolean[] used = new boolean[MAX_VOICES_PER_SOUND];
+
+        /**
+         * Takes a voice for a new playback of the sound
+         * @param priority priority of the new playback
+         * @param now current time, in nanoseconds
+         * @param maxVoices amount of voices that may be taken, at most MAX_VOICES_PER_SOUND
+         * @return true if a voice was taken, false if the playback should be dropped
+         */
+        boolean take(int priority, long now, int maxVoices) {
+            int chosen = -1;
+            for (int voice = 0; voice < maxVoices; voice++) {
+                if (!used[voice] || endTimes[voice] - now <= 0) {
+                    chosen = voice;
+                    break;
+                }
+                if (priorities[voice] < priority && (chosen == -1 || priorities[voice] < priorities[chosen])) {
+                    chosen = voice;
+                }
+            }
+            if (chosen == -1) {
+                return false;
+            }
+            used[chosen] = true;
+            endTimes[chosen] = now + VOICE_DURATION_NANOS;
+            priorities[chosen] = priority;
+            return true;
+        }
+    }
+
+    private final Map<Sound, Integer> pending = new IdentityHashMap<>();
+    private final Map<Sound, Voices> voices = new IdentityHashMap<>();
+    private AudioBackend backend;
+    private int voicesPerSound = MAX_VOICES_PER_SOUND;
+    private ExecutorService playbackExecutor;
+    private long played;
+    private long merged;
+    private long dropped;
+
+    /**
+     * Constructs a new AudioDispatcher instance
+     * @param backend backend the sounds are played on
+     */
+    public AudioDispatcher(AudioBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Sets the backend the sounds are played on from the next flush on
+     * @param backend the backend
+     */
+    public void setBackend(AudioBackend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Sets the amount of voices of a single sound that may play at the same time from the next flush
+     * on. Fewer voices merge more of the playbacks of a busy sound into the ones already playing.
+     * @param voicesPerSound amount of voices, between 1 and MAX_VOICES_PER_SOUND
+     */
+    public void setVoicesPerSound(int voicesPerSound) {
+        if (voicesPerSound < 1 || voicesPerSound > MAX_VOICES_PER_SOUND) {
+            throw new IllegalArgumentException("voices per sound must be between 1 and "
+                    + MAX_VOICES_PER_SOUND);
+        }
+        this.voicesPerSound = voicesPerSound;
+    }
+
+    /**
+     * Requests to play a sound at the end of the current frame
+     * @param sound the sound
+     * @param priority priority of the request, higher priorities take busy voices from lower ones
+     */
+    public void trigger(Sound sound, int priority) {
+        Integer previous = pending.putIfAbsent(sound, priority);
+        if (previous != null) {
+            merged++;
+            if (previous < priority) {
+                pending.put(sound, priority);
+            }
+        }
+    }
+
+    /**
+     * Plays the sounds requested since the last flush. Called once per frame by the game.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (backend == AudioBackend.SILENT) {
+            pending.clear();
+            return;
+        }
+        long now = System.nanoTime();
+        List<Sound> toPlay = new ArrayList<>(pending.size());
+        for (Map.Entry<Sound, Integer> request : pending.entrySet()) {
+            Voices soundVoices = voices.computeIfAbsent(request.getKey(), sound -> new Voices());
+            if (soundVoices.take(request.getValue(), now, voicesPerSound)) {
+                toPlay.add(request.getKey());
+            } else {
+                dropped++;
+            }
+        }
+        pending.clear();
+        if (toPlay.isEmpty()) {
+            return;
+        }
+        played += toPlay.size();
+        AudioBackend playingBackend = backend;
+        playbackExecutor().execute(() -> {
+            for (Sound sound : toPlay) {
+                playingBackend.play(sound);
+            }
+        });
+    }
+
+    /**
+     * Stops the playback thread. Sounds already handed to it are still played.
+     */
+    public void shutdown() {
+        if (playbackExecutor != null) {
+            playbackExecutor.shutdown();
+            playbackExecutor = null;
+        }
+    }
+
+    /**
+     * Played getter
+     * @return amount of voices handed to the backend
+     */
+    public long getPlayedCount() {
+        return played;
+    }
+
+    /**
+     * Merged getter
+     * @return amount of triggers merged into a trigger of the same sound in the same frame
+     */
+    public long getMergedCount() {
+        return merged;
+    }
+
+    /**
+     * Dropped getter
+     * @return amount of voices dropped since all voices of their sound were busy
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * returns the playback thread, starting it on first use
+     * @return the playback executor
+     */
+    private ExecutorService playbackExecutor() {
+        if (playbackExecutor == null) {
+            playbackExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, PLAYBACK_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return playbackExecutor;
+    }
+}
@@ -0,0 +1,19 @@
+package src.audio;
+
+import danogl.gui.Sound;
+
+/**
+ * The following class plays the dispatched sounds on the engine's sound system.
+ * @author Eliyahu Tamarkin
+ */
+public class SoundAudioBackend implements AudioBackend {
+
+    /**
+     * Plays a single voice of a sound
+     * @param sound the sound to play
+     */
+    @Override
+    public void play(Sound sound) {
+        sound.play();
+    }
+}
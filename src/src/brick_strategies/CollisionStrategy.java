@@ -15,4 +15,11 @@ public interface CollisionStrategy {
      * @param bricksCounter bricks counter
      */
     void onCollision(GameObject collidedObj, GameObject colliderObj, Counter bricksCounter);
+
+    /**
+     * Removes the objects the strategy has added to the game and restores its initial state, when the
+     * game is reset in place. Strategies which keep no state need not override it.
+     */
+    default void reset() {
+    }
 }
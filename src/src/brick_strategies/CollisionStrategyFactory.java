@@ -1,24 +1,39 @@
 package src.brick_strategies;
 
 import danogl.GameManager;
-import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.SoundReader;
-import danogl.gui.UserInputListener;
+import danogl.collisions.Layer;
 import danogl.gui.WindowController;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.effects.EffectScheduler;
+import src.gameobjects.GameObjectCommandBuffer;
+import src.assets.AssetRegistry;
+import src.audio.AudioDispatcher;
 import src.gameobjects.Ball;
+import src.gameobjects.BrickContainer;
+import src.gameobjects.GameObjectPool;
+import src.gameobjects.Heart;
 import src.gameobjects.Paddle;
+import src.gameobjects.PaddleController;
+import src.gameobjects.PuckBall;
+import src.profiling.PerformanceMonitor;
+import src.utils.RandomService;
 
-import java.util.Random;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
 
 /**
  * The following class is a factory class which is in charge of instantiating new strategies whenever
  * requested based on a random strategy chosen.
- * The way the factory builds complex strategies is by building them one on another, meaning that each
- * strategy (besides the base strategy) will have an inner strategy that it's behaviour will be called
- * before the outer strategy behaviour.
+ * Every behaviour strategy (besides the base strategy) is created once per factory, decorating a
+ * strategy with no behaviour, and a complex strategy is compiled into a flat composite strategy which
+ * plays the base strategy and then its behaviours in order, the same order a chain of strategies
+ * decorating one another would play them in.
+ * Picking a strategy is separated from building it: a picked strategy is described by a strategy code,
+ * which may be picked on any thread and built by the factory later on. Identical strategy codes are
+ * built into a single shared strategy, so the strategies of a level take memory per distinct
+ * combination of behaviours rather than per brick.
  * @author Eliyahu Tamarkin
  */
 public class CollisionStrategyFactory {
@@ -31,26 +46,40 @@ public class CollisionStrategyFactory {
     private static final int HEART_CREATION = 4;
     private static final int DOUBLE = 5;
     private static final int MAX_STRATEGIES = 3;
-    private final GameObjectCollection gameObjects;
-    private final ImageReader imageReader;
-    private final SoundReader soundReader;
-    private final UserInputListener inputListener;
+    private static final int STRATEGY_CODE_BITS = 3;
+    private static final int STRATEGY_CODE_MASK = (1 << STRATEGY_CODE_BITS) - 1;
+    private static final int[] UNIFORM_WEIGHTS = {1, 1, 1, 1, 1, 1};
+    private static final int MAX_LIVE_PUCK_BALLS = 128;
+    private static final int MAX_IDLE_PUCK_BALLS = 64;
+    private static final int MAX_LIVE_HEARTS = 32;
+    private static final int MAX_IDLE_HEARTS = 16;
+    private static final CollisionStrategy NO_BEHAVIOUR = (collidedObj, colliderObj, bricksCounter) -> { };
+    private final GameObjectCommandBuffer commandBuffer;
+    private final AssetRegistry assetRegistry;
+    private final PaddleController paddleController;
     private final GameManager gameManager;
     private final WindowController windowController;
     private final Vector2 windowDimensions;
     private final Paddle paddle;
     private final Ball ball;
-    private final Counter livesCounter;
-    private final Vector2 heartDimensions;
-    private final Random rnd = new Random();
+    private final GameObjectPool<PuckBall> puckBallPool;
+    private final GameObjectPool<Heart> heartPool;
+    private final EffectScheduler effectScheduler;
+    private final RandomService randomService;
+    private final PerformanceMonitor performanceMonitor;
+    private final SplittableRandom rnd;
     private final CollisionStrategy baseStrategy;
+    private final CollisionStrategy[] behaviours = new CollisionStrategy[NUM_OF_STRATEGIES];
+    private final Map<Integer, CollisionStrategy> internedStrategies = new HashMap<>();
 
     /**
      * Constructs a new StrategyFactor instance
-     * @param gameObjects game object
-     * @param imageReader image reader
-     * @param soundReader sound reader
-     * @param inputListener input listener
+     * @param commandBuffer buffer the game objects are added and removed through
+     * @param assetRegistry registry all strategies take their images and sounds from
+     * @param audioDispatcher dispatcher the sounds of the strategies' objects are played through
+     * @param performanceMonitor monitor the strategies and their objects are measured with
+     * @param effectScheduler scheduler the strategies register the expiry of their effects with
+     * @param paddleController controller deciding where additional paddles move
      * @param gameManager game manager
      * @param windowController window controller
      * @param windowDimensions window dimensions
@@ -58,25 +87,84 @@ public class CollisionStrategyFactory {
      * @param ball main ball
      * @param livesCounter lives counter
      * @param heartDimensions heart dimensions
+     * @param brickContainer store holding the bricks
+     * @param randomService service all random decisions of the strategies are taken with
      */
-    public CollisionStrategyFactory(GameObjectCollection gameObjects, ImageReader imageReader,
-                                    SoundReader soundReader, UserInputListener inputListener,
+    public CollisionStrategyFactory(GameObjectCommandBuffer commandBuffer,
+                                    AssetRegistry assetRegistry,
+                                    AudioDispatcher audioDispatcher,
+                                    PerformanceMonitor performanceMonitor,
+                                    EffectScheduler effectScheduler,
+                                    PaddleController paddleController,
                                     GameManager gameManager, WindowController windowController,
                                     Vector2 windowDimensions, Paddle paddle, Ball ball,
-                                    Counter livesCounter, Vector2 heartDimensions){
-        this.gameObjects = gameObjects;
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
-        this.inputListener = inputListener;
+                                    Counter livesCounter, Vector2 heartDimensions,
+                                    BrickContainer brickContainer, RandomService randomService){
+        this.commandBuffer = commandBuffer;
+        this.assetRegistry = assetRegistry;
+        this.performanceMonitor = performanceMonitor;
+        this.effectScheduler = effectScheduler;
+        this.paddleController = paddleController;
         this.gameManager = gameManager;
         this.windowController = windowController;
         this.windowDimensions = windowDimensions;
         this.paddle = paddle;
         this.ball = ball;
-        this.livesCounter = livesCounter;
-        this.heartDimensions = heartDimensions;
-        this.baseStrategy = new RemoveBrickStrategy(gameObjects);
+        this.randomService = randomService;
+        this.rnd = randomService.split();
+        this.puckBallPool = PuckBallStrategy.createPool(assetRegistry, audioDispatcher,
+                performanceMonitor, MAX_LIVE_PUCK_BALLS, MAX_IDLE_PUCK_BALLS);
+        this.heartPool = HeartCreationStrategy.createPool(commandBuffer, heartDimensions, assetRegistry,
+                livesCounter, performanceMonitor, MAX_LIVE_HEARTS, MAX_IDLE_HEARTS);
+        this.baseStrategy = new RemoveBrickStrategy(commandBuffer, brickContainer);
+        for (int strategyType = MULTIPLE_BALLS; strategyType < DOUBLE; strategyType++) {
+            behaviours[strategyType] = buildStrategy(NO_BEHAVIOUR, strategyType);
+        }
+
+    }
 
+    /**
+     * Starts loading the assets of every strategy the factory may build in the background, so that
+     * building the strategies of a level does not wait on decoding.
+     * @param assetRegistry registry to preload into
+     */
+    public static void preloadAssets(AssetRegistry assetRegistry){
+        PuckBallStrategy.preloadAssets(assetRegistry);
+        PaddleStrategy.preloadAssets(assetRegistry);
+        HeartCreationStrategy.preloadAssets(assetRegistry);
+    }
+
+    /**
+     * Removes every object the factory's strategies have added to the game, and resets the strategies,
+     * when the game is reset in place. The objects are removed once the command buffer is next
+     * flushed, and the pooled ones are released back to their pools right after their removal.
+     */
+    public void reset(){
+        puckBallPool.forEachLive(puckBall ->
+                commandBuffer.remove(puckBall, Layer.DEFAULT, () -> puckBallPool.release(puckBall)));
+        heartPool.forEachLive(heart ->
+                commandBuffer.remove(heart, Layer.DEFAULT, () -> heartPool.release(heart)));
+        for (CollisionStrategy behaviour : behaviours) {
+            if (behaviour != null) {
+                behaviour.reset();
+            }
+        }
+    }
+
+    /**
+     * Puck balls pool getter
+     * @return the pool all puck balls built by the factory's strategies are spawned from
+     */
+    public GameObjectPool<PuckBall> getPuckBallPool(){
+        return puckBallPool;
+    }
+
+    /**
+     * Hearts pool getter
+     * @return the pool all falling hearts built by the factory's strategies are spawned from
+     */
+    public GameObjectPool<Heart> getHeartPool(){
+        return heartPool;
     }
 
     /**
@@ -84,11 +172,125 @@ public class CollisionStrategyFactory {
      * @return a random strategy
      */
     public CollisionStrategy getStrategy(){
-        int strategyIndex = rnd.nextInt(NUM_OF_STRATEGIES);
+        return buildStrategy(pickStrategyCode(rnd, UNIFORM_WEIGHTS));
+    }
+
+    /**
+     * Builds the strategy a given strategy code stands for. Strategies are shared between all calls
+     * with the same code.
+     * @param strategyCode code returned by pickStrategyCode
+     * @return the strategy
+     */
+    public CollisionStrategy buildStrategy(int strategyCode){
+        if (strategyCode == REGULAR){
+            return baseStrategy;
+        }
+        return internedStrategies.computeIfAbsent(strategyCode, this::compileStrategy);
+    }
+
+    /**
+     * Distinct strategies getter
+     * @return amount of distinct complex strategies built so far
+     */
+    public int getNumOfDistinctStrategies(){
+        return internedStrategies.size();
+    }
+
+    /**
+     * Helper function compiling a strategy code into a flat composite strategy
+     * @param strategyCode code returned by pickStrategyCode
+     * @return the composite strategy
+     */
+    private CollisionStrategy compileStrategy(int strategyCode){
+        int numOfBehaviours = 0;
+        for (int code = strategyCode; code != REGULAR; code >>>= STRATEGY_CODE_BITS){
+            numOfBehaviours++;
+        }
+        CollisionStrategy[] compiled = new CollisionStrategy[numOfBehaviours + 1];
+        compiled[0] = baseStrategy;
+        int index = 1;
+        for (int code = strategyCode; code != REGULAR; code >>>= STRATEGY_CODE_BITS){
+            compiled[index++] = behaviours[code & STRATEGY_CODE_MASK];
+        }
+        return new CompositeStrategy(compiled, performanceMonitor);
+    }
+
+    /**
+     * Picks a random strategy without building it, so that the strategies of a level can be picked in
+     * parallel and built afterwards.
+     * A strategy code lists the behaviours a brick plays on top of removing itself, innermost first,
+     * STRATEGY_CODE_BITS bits per behaviour, where 0 stands for a regular brick.
+     * When a double strategy is picked, additional behaviours are picked until two were found, or
+     * until MAX_STRATEGIES were found in case another double strategy was picked on the way.
+     * @param rnd random generator to pick with
+     * @param weights relative weight of every strategy type, indexed by the strategy type
+     * @return the picked strategy code
+     */
+    public static int pickStrategyCode(SplittableRandom rnd, int[] weights){
+        int strategyIndex = pickIndex(rnd, weights, REGULAR);
         if (strategyIndex != DOUBLE){
-            return buildStrategy(baseStrategy, strategyIndex);
+            return strategyIndex;
         }
-        return buildDoubleStrategy(baseStrategy, 0, 2);
+        int strategyCode = 0;
+        int numOfStrategies = 0;
+        int maxStrategies = 2;
+        while (numOfStrategies < maxStrategies){
+            strategyIndex = pickIndex(rnd, weights, MULTIPLE_BALLS);
+            if (strategyIndex != DOUBLE){
+                strategyCode |= strategyIndex << (STRATEGY_CODE_BITS * numOfStrategies);
+                numOfStrategies++;
+            }
+            else {
+                maxStrategies = Math.max(maxStrategies, MAX_STRATEGIES);
+            }
+        }
+        return strategyCode;
+    }
+
+    /**
+     * Checks that a given array of strategy weights can be picked from
+     * @param weights relative weight of every strategy type
+     * @throws IllegalArgumentException in case the weights are invalid
+     */
+    public static void checkWeights(int[] weights){
+        if (weights.length != NUM_OF_STRATEGIES){
+            throw new IllegalArgumentException("expected " + NUM_OF_STRATEGIES + " strategy weights");
+        }
+        int total = 0;
+        int behavioursTotal = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0){
+                throw new IllegalArgumentException("strategy weights must not be negative");
+            }
+            total += weights[i];
+            if (i != REGULAR && i != DOUBLE){
+                behavioursTotal += weights[i];
+            }
+        }
+        if (total == 0 || (weights[DOUBLE] > 0 && behavioursTotal == 0)){
+            throw new IllegalArgumentException("strategy weights leave nothing to pick");
+        }
+    }
+
+    /**
+     * Helper function picking a weighted strategy index
+     * @param rnd random generator to pick with
+     * @param weights relative weight of every strategy type
+     * @param firstIndex first strategy index that may be picked
+     * @return the picked index
+     */
+    private static int pickIndex(SplittableRandom rnd, int[] weights, int firstIndex){
+        int total = 0;
+        for (int i = firstIndex; i < weights.length; i++) {
+            total += weights[i];
+        }
+        int pick = rnd.nextInt(total);
+        int index = firstIndex;
+        while (pick >= weights[index]){
+            pick -= weights[index];
+            index++;
+        }
+        return index;
     }
 
     /**
@@ -102,46 +304,20 @@ public class CollisionStrategyFactory {
             case REGULAR:
                 return decoratedStrategy;
             case MULTIPLE_BALLS:
-                return new PuckBallStrategy(decoratedStrategy, gameObjects, windowController,
-                        imageReader, soundReader);
+                return new PuckBallStrategy(decoratedStrategy, commandBuffer, puckBallPool,
+                        randomService.split());
             case ADDITIONAL_PADDLE:
-                return  new PaddleStrategy(decoratedStrategy, gameObjects, imageReader,
-                        inputListener, paddle.getDimensions(), windowDimensions);
+                return  new PaddleStrategy(decoratedStrategy, commandBuffer, effectScheduler,
+                        assetRegistry, paddleController, paddle.getDimensions(), windowDimensions,
+                        performanceMonitor);
             case CAMERA_CHANGE:
-                return new CameraChangeStrategy(decoratedStrategy, gameObjects, gameManager,
+                return new CameraChangeStrategy(decoratedStrategy, effectScheduler, gameManager,
                         windowController, ball);
             case HEART_CREATION:
-                return new HeartCreationStrategy(decoratedStrategy, gameObjects, heartDimensions,
-                        imageReader, windowController, livesCounter);
+                return new HeartCreationStrategy(decoratedStrategy, commandBuffer, heartPool);
             default:
                 return null;
         }
     }
 
-    /**
-     * Helper function in charge of building a double strategy.
-     * Builds a double strategy based on the number of current strategies and the number of max
-     * strategies that should be used. Increases the number of maximum strategies in case one of the
-     * strategies that was randomly picked is another double strategy. However, the amount of strategies
-     * won't be larger than the amount of strategies decided for the exercise (3)
-     * @param decoratedStrategy inner strategy to be used
-     * @param numOfStrategies current number of strategies generated
-     * @param maxStrategies maximal number of strategies to be used
-     * @return the built composed strategy
-     */
-    private CollisionStrategy buildDoubleStrategy(CollisionStrategy decoratedStrategy,
-                                                  int numOfStrategies, int maxStrategies){
-        if (numOfStrategies == maxStrategies){
-            return decoratedStrategy;
-        }
-        int strategyIndex = rnd.nextInt(NUM_OF_STRATEGIES - 1) + 1;
-        if (strategyIndex != DOUBLE){
-            numOfStrategies++;
-            return buildDoubleStrategy(buildStrategy(decoratedStrategy, strategyIndex), numOfStrategies,
-                    maxStrategies);
-        }
-        maxStrategies = Math.max(maxStrategies, MAX_STRATEGIES);
-        return buildDoubleStrategy(decoratedStrategy, numOfStrategies, maxStrategies);
-    }
-
 }
@@ -0,0 +1,51 @@
+package src.brick_strategies;
+
+import danogl.GameObject;
+import danogl.util.Counter;
+import src.profiling.PerformanceMonitor;
+
+/**
+ * Composite strategy class.
+ * Plays a flat array of behaviours one after the other, in place of a chain of strategies decorating
+ * one another. Composite strategies hold no state of their own, so bricks with the same behaviours
+ * share a single composite strategy.
+ * @author Eliyahu Tamarkin
+ */
+public class CompositeStrategy implements CollisionStrategy {
+
+    private final CollisionStrategy[] behaviours;
+    private final PerformanceMonitor performanceMonitor;
+
+    /**
+     * Constructs a new CompositeStrategy instance
+     * @param behaviours behaviours to play, in order. None of them should decorate another strategy.
+     * @param performanceMonitor monitor every played behaviour is measured with
+     */
+    public CompositeStrategy(CollisionStrategy[] behaviours, PerformanceMonitor performanceMonitor) {
+        this.behaviours = behaviours.clone();
+        this.performanceMonitor = performanceMonitor;
+    }
+
+    /**
+     * Plays every behaviour of the composite strategy, in order
+     * @param collidedObj collided object
+     * @param colliderObj collider object
+     * @param bricksCounter bricks counter
+     */
+    @Override
+    public void onCollision(GameObject collidedObj, GameObject colliderObj, Counter bricksCounter) {
+        for (CollisionStrategy behaviour : behaviours) {
+            long start = performanceMonitor.start();
+            behaviour.onCollision(collidedObj, colliderObj, bricksCounter);
+            performanceMonitor.recordStrategy(behaviour, start);
+        }
+    }
+
+    /**
+     * Behaviours getter
+     * @return amount of behaviours the strategy plays
+     */
+    public int getNumOfBehaviours() {
+        return behaviours.length;
+    }
+}
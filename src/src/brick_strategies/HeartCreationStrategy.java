@@ -1,13 +1,14 @@
 package src.brick_strategies;
 
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.WindowController;
-import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.gameobjects.GameObjectCommandBuffer;
+import src.assets.AssetRegistry;
+import src.gameobjects.GameObjectPool;
 import src.gameobjects.Heart;
+import src.profiling.PerformanceMonitor;
 
 /**
  * Additional hearts strategy class.
@@ -22,38 +23,55 @@ public class HeartCreationStrategy implements CollisionStrategy {
 
     private static final Vector2 HEART_FALL_DIRECTION = new Vector2(0, 1);
 
-    private final WindowController windowController;
-    private final Vector2 heartDimensions;
-    private final ImageRenderable heartImage;
-
-    private final Counter livesCounter;
     private final CollisionStrategy decoratedStrategy;
-    private final GameObjectCollection gameObjects;
-
+    private final GameObjectCommandBuffer commandBuffer;
+    private final GameObjectPool<Heart> heartPool;
 
     /**
      * Constructs a new heart strategy instance
      * @param decoratedStrategy inner strategy
-     * @param gameObjects game objects
-     * @param heartDimensions heart instance dimensions
-     * @param imageReader image reader
-     * @param windowController window controller
-     * @param livesCounter lives counter
+     * @param commandBuffer buffer the hearts are added to the game through
+     * @param heartPool pool the hearts are spawned from
      */
     public HeartCreationStrategy(CollisionStrategy decoratedStrategy,
-                                 GameObjectCollection gameObjects, Vector2 heartDimensions,
-                                 ImageReader imageReader, WindowController windowController,
-                                 Counter livesCounter) {
+                                 GameObjectCommandBuffer commandBuffer,
+                                 GameObjectPool<Heart> heartPool) {
         this.decoratedStrategy = decoratedStrategy;
-        this.gameObjects = gameObjects;
-        this.windowController = windowController;
-        this.heartDimensions = heartDimensions;
-        this.heartImage = imageReader.readImage(HEART_IMAGE_PATH, true);
-        this.livesCounter = livesCounter;
+        this.commandBuffer = commandBuffer;
+        this.heartPool = heartPool;
+    }
+
+    /**
+     * Creates the pool all falling hearts of a game are spawned from
+     * @param commandBuffer buffer the hearts remove themselves from the game through
+     * @param heartDimensions heart instance dimensions
+     * @param assetRegistry registry the heart image is taken from
+     * @param livesCounter lives counter
+     * @param performanceMonitor monitor the hearts are measured with
+     * @param maxLive maximal amount of falling hearts in the game at the same time
+     * @param maxIdle maximal amount of hearts kept for reuse
+     * @return the hearts pool
+     */
+    public static GameObjectPool<Heart> createPool(GameObjectCommandBuffer commandBuffer,
+                                                   Vector2 heartDimensions, AssetRegistry assetRegistry,
+                                                   Counter livesCounter,
+                                                   PerformanceMonitor performanceMonitor, int maxLive,
+                                                   int maxIdle) {
+        Renderable heartImage = assetRegistry.getSprite(HEART_IMAGE_PATH, true);
+        return new GameObjectPool<>(pool -> new Heart(Vector2.ZERO, heartDimensions, heartImage,
+                commandBuffer, livesCounter, pool, performanceMonitor), maxLive, maxIdle);
+    }
+
+    /**
+     * Starts loading the heart assets in the background
+     * @param assetRegistry registry to preload into
+     */
+    static void preloadAssets(AssetRegistry assetRegistry) {
+        assetRegistry.preloadSprite(HEART_IMAGE_PATH, true);
     }
 
     /**
-     * Creates a new heart whenever called with the parameters given at the constructor
+     * Spawns a new falling heart whenever called, unless the falling hearts cap was reached
      * @param collidedObj collided object
      * @param colliderObj collider object
      * @param bricksCounter bricks counter
@@ -61,10 +79,12 @@ public class HeartCreationStrategy implements CollisionStrategy {
     @Override
     public void onCollision(GameObject collidedObj, GameObject colliderObj, Counter bricksCounter) {
         decoratedStrategy.onCollision(collidedObj, colliderObj, bricksCounter);
-        Heart heart = new Heart(Vector2.ZERO, heartDimensions, heartImage, windowController,
-                gameObjects, livesCounter);
+        Heart heart = heartPool.spawn();
+        if (heart == null){
+            return;
+        }
         heart.setCenter(collidedObj.getCenter());
         heart.setVelocity(HEART_FALL_DIRECTION.mult(HEART_FALL_SPEED));
-        gameObjects.addGameObject(heart);
+        commandBuffer.add(heart);
     }
 }
@@ -1,50 +1,71 @@
 package src.brick_strategies;
 
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.UserInputListener;
-import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.effects.EffectScheduler;
+import src.gameobjects.GameObjectCommandBuffer;
+import src.assets.AssetRegistry;
+import src.gameobjects.PaddleController;
 import src.gameobjects.SecondaryPaddle;
+import src.profiling.PerformanceMonitor;
 
 /**
  * Paddle strategy class.
- * In charge of initiating the additional paddle when requested.
+ * In charge of initiating the additional paddle when requested. The paddle expires after a number of
+ * hits, which the effect scheduler counts.
  * @author Eliyahu Tamarkin
  */
 public class PaddleStrategy implements CollisionStrategy {
 
     private static final String BOT_PADDLE_IMAGE_PATH = "assets/botGood.png";
-    private final ImageRenderable paddleImage;
+    private static final int MAX_HIT_COUNT = 3;
+    private final Renderable paddleImage;
     private final Vector2 paddleDimensions;
-    private final UserInputListener inputListener;
+    private final PaddleController controller;
     private final Vector2 paddlePosition;
     private final Vector2 windowDimensions;
     private final CollisionStrategy decoratedStrategy;
-    private final GameObjectCollection gameObjects;
+    private final GameObjectCommandBuffer commandBuffer;
+    private final EffectScheduler effectScheduler;
+    private final PerformanceMonitor performanceMonitor;
+    private SecondaryPaddle paddle;
+    private EffectScheduler.Effect paddleExpiry;
 
     /**
      * Creates a new PaddleStrategy instance
      * @param decoratedStrategy inner strategy
-     * @param gameObjects game objects
-     * @param imageReader image reader
-     * @param inputListener input lisetener
+     * @param commandBuffer buffer the game objects are added and removed through
+     * @param effectScheduler scheduler the expiry of the additional paddle is registered with
+     * @param assetRegistry registry the paddle image is taken from
+     * @param controller controller deciding where the additional paddle moves
      * @param paddleDimensions new paddle dimensions
      * @param windowDimensions window dimensions
+     * @param performanceMonitor monitor the additional paddle is measured with
      */
     public PaddleStrategy(CollisionStrategy decoratedStrategy,
-                          GameObjectCollection gameObjects, ImageReader imageReader,
-                          UserInputListener inputListener, Vector2 paddleDimensions,
-                          Vector2 windowDimensions){
+                          GameObjectCommandBuffer commandBuffer, EffectScheduler effectScheduler,
+                          AssetRegistry assetRegistry,
+                          PaddleController controller, Vector2 paddleDimensions,
+                          Vector2 windowDimensions, PerformanceMonitor performanceMonitor){
         this.decoratedStrategy = decoratedStrategy;
-        this.gameObjects = gameObjects;
+        this.commandBuffer = commandBuffer;
+        this.effectScheduler = effectScheduler;
         this.windowDimensions = windowDimensions;
-        this.paddleImage =  imageReader.readImage(BOT_PADDLE_IMAGE_PATH, true);
+        this.paddleImage =  assetRegistry.getSprite(BOT_PADDLE_IMAGE_PATH, true);
         this.paddlePosition = new Vector2(windowDimensions.x() / 2, windowDimensions.y() / 2);
         this.paddleDimensions = paddleDimensions;
-        this.inputListener = inputListener;
+        this.controller = controller;
+        this.performanceMonitor = performanceMonitor;
+    }
+
+    /**
+     * Starts loading the additional paddle assets in the background
+     * @param assetRegistry registry to preload into
+     */
+    static void preloadAssets(AssetRegistry assetRegistry) {
+        assetRegistry.preloadSprite(BOT_PADDLE_IMAGE_PATH, true);
     }
 
     /**
@@ -57,12 +78,34 @@ public class PaddleStrategy implements CollisionStrategy {
     @Override
     public void onCollision(GameObject collidedObj, GameObject colliderObj, Counter bricksCounter) {
         decoratedStrategy.onCollision(collidedObj, colliderObj, bricksCounter);
-        if(SecondaryPaddle.numOfInstances == 0){
-            SecondaryPaddle paddle = new SecondaryPaddle(Vector2.ZERO,
-                    paddleDimensions, paddleImage, inputListener, windowDimensions, 1 ,
-                    gameObjects);
+        if(paddle == null){
+            paddle = new SecondaryPaddle(Vector2.ZERO,
+                    paddleDimensions, paddleImage, controller, windowDimensions, 1 ,
+                    effectScheduler, performanceMonitor);
             paddle.setCenter(paddlePosition);
-            gameObjects.addGameObject(paddle);
+            commandBuffer.add(paddle);
+            paddleExpiry = effectScheduler.afterHits(paddle, MAX_HIT_COUNT, this::removePaddle);
+        }
+    }
+
+    /**
+     * Removes the additional paddle from the game, so that the next hit adds a new one
+     */
+    @Override
+    public void reset() {
+        effectScheduler.cancel(paddleExpiry);
+        removePaddle();
+    }
+
+    /**
+     * Helper function removing the additional paddle from the game, once it expired or when the game
+     * is reset
+     */
+    private void removePaddle() {
+        if (paddle != null) {
+            commandBuffer.remove(paddle);
+            paddle = null;
+            paddleExpiry = null;
         }
     }
 }
@@ -1,17 +1,18 @@
 package src.brick_strategies;
 
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
 import danogl.gui.Sound;
-import danogl.gui.SoundReader;
-import danogl.gui.WindowController;
-import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.gameobjects.GameObjectCommandBuffer;
+import src.assets.AssetRegistry;
+import src.audio.AudioDispatcher;
+import src.gameobjects.GameObjectPool;
 import src.gameobjects.PuckBall;
+import src.profiling.PerformanceMonitor;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Puck Balls strategy class.
@@ -22,32 +23,58 @@ public class PuckBallStrategy implements CollisionStrategy {
 
     private static final String PUCK_BALL_IMAGE_PATH = "assets/mockBall.png";
     private static final String PUCK_BALL_COLLISION_SOUND = "assets/blop.wav";
+    private static final int PUCK_BALL_SOUND_PRIORITY = 0;
     private static final int NUM_OF_PUCKS = 1;
     private static final int BALL_SPEED = 300;
-    private final ImageRenderable ballImage;
-    private final Sound collisionSound;
-    private final Vector2[] directions;
+    private static final Vector2[] DIRECTIONS = new Vector2[]{new Vector2(1, 1), new Vector2(-1, 1),
+                                    new Vector2(-1, -1), new Vector2(1, -1)};
+    private final SplittableRandom rnd;
     private final CollisionStrategy decoratedStrategy;
-    private final GameObjectCollection gameObjects;
-    private final WindowController windowController;
+    private final GameObjectCommandBuffer commandBuffer;
+    private final GameObjectPool<PuckBall> puckBallPool;
 
     /**
      * Constructs a new PuckBallStrategy instance
      * @param decoratedStrategy inner strategy
-     * @param gameObjects game objects
-     * @param imageReader image reader
-     * @param soundReader sound reader
+     * @param commandBuffer buffer the puck balls are added to the game through
+     * @param puckBallPool pool the puck balls are spawned from
+     * @param rnd random generator the directions of the puck balls are picked with
      */
-    public PuckBallStrategy(CollisionStrategy decoratedStrategy, GameObjectCollection gameObjects,
-                            WindowController windowController, ImageReader imageReader,
-                            SoundReader soundReader) {
+    public PuckBallStrategy(CollisionStrategy decoratedStrategy, GameObjectCommandBuffer commandBuffer,
+                            GameObjectPool<PuckBall> puckBallPool, SplittableRandom rnd) {
         this.decoratedStrategy = decoratedStrategy;
-        this.gameObjects = gameObjects;
-        this.windowController = windowController;
-        ballImage =  imageReader.readImage(PUCK_BALL_IMAGE_PATH, true);
-        collisionSound = soundReader.readSound(PUCK_BALL_COLLISION_SOUND);
-        directions = new Vector2[]{new Vector2(1, 1), new Vector2(-1, 1),
-                                    new Vector2(-1, -1), new Vector2(1, -1)};
+        this.commandBuffer = commandBuffer;
+        this.puckBallPool = puckBallPool;
+        this.rnd = rnd;
+    }
+
+    /**
+     * Creates the pool all puck balls of a game are spawned from
+     * @param assetRegistry registry the puck ball image and sound are taken from
+     * @param audioDispatcher dispatcher the puck balls' collision sound is played through
+     * @param performanceMonitor monitor the puck balls are measured with
+     * @param maxLive maximal amount of puck balls in the game at the same time
+     * @param maxIdle maximal amount of puck balls kept for reuse
+     * @return the puck balls pool
+     */
+    public static GameObjectPool<PuckBall> createPool(AssetRegistry assetRegistry,
+                                                      AudioDispatcher audioDispatcher,
+                                                      PerformanceMonitor performanceMonitor,
+                                                      int maxLive, int maxIdle) {
+        Renderable ballImage = assetRegistry.getSprite(PUCK_BALL_IMAGE_PATH, true);
+        Sound collisionSound = assetRegistry.getSound(PUCK_BALL_COLLISION_SOUND);
+        return new GameObjectPool<>(pool -> new PuckBall(Vector2.ZERO, Vector2.ZERO, ballImage,
+                collisionSound, audioDispatcher, PUCK_BALL_SOUND_PRIORITY, performanceMonitor), maxLive,
+                maxIdle);
+    }
+
+    /**
+     * Starts loading the puck ball assets in the background
+     * @param assetRegistry registry to preload into
+     */
+    static void preloadAssets(AssetRegistry assetRegistry) {
+        assetRegistry.preloadSprite(PUCK_BALL_IMAGE_PATH, true);
+        assetRegistry.preloadSound(PUCK_BALL_COLLISION_SOUND);
     }
 
     /**
@@ -60,15 +87,18 @@ public class PuckBallStrategy implements CollisionStrategy {
     @Override
     public void onCollision(GameObject collidedObj, GameObject colliderObj, Counter bricksCounter) {
         decoratedStrategy.onCollision(collidedObj, colliderObj, bricksCounter);
-        Random rnd = new Random();
         int ballSize = (int) collidedObj.getDimensions().y();
         Vector2 ballPosition = new Vector2(collidedObj.getCenter().x(), collidedObj.getCenter().y());
         for(int i = 0; i < NUM_OF_PUCKS; i++){
-            int directionIndex = rnd.nextInt(directions.length);
-            PuckBall puckBall = new PuckBall(ballPosition, new Vector2(ballSize, ballSize),
-                    this.ballImage, this.collisionSound, this.windowController, this.gameObjects);
-            puckBall.setVelocity(directions[directionIndex].mult(BALL_SPEED));
-            this.gameObjects.addGameObject(puckBall);
+            PuckBall puckBall = puckBallPool.spawn();
+            if (puckBall == null){
+                return;
+            }
+            int directionIndex = rnd.nextInt(DIRECTIONS.length);
+            puckBall.setDimensions(new Vector2(ballSize, ballSize));
+            puckBall.setTopLeftCorner(ballPosition);
+            puckBall.setVelocity(DIRECTIONS[directionIndex].mult(BALL_SPEED));
+            this.commandBuffer.add(puckBall);
         }
     }
 }
@@ -1,9 +1,10 @@
 package src.brick_strategies;
 
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
 import danogl.util.Counter;
+import src.gameobjects.GameObjectCommandBuffer;
+import src.gameobjects.BrickContainer;
 
 /**
  * Brick removal strategy class.
@@ -11,24 +12,31 @@ import danogl.util.Counter;
  * @author Eliyahu Tamarkin
  */
 public class RemoveBrickStrategy implements CollisionStrategy{
-    protected final GameObjectCollection gameObjects;
+    protected final GameObjectCommandBuffer commandBuffer;
+    private final BrickContainer brickContainer;
 
     /**
      * Constructs a new RemoveBrickStrategy instance.
-     * @param gameObjects   the games objects used for adding or removing objects from the game
+     * @param commandBuffer buffer the game objects are removed from the game through
+     * @param brickContainer store the bricks are removed from as well
      */
-    public RemoveBrickStrategy(GameObjectCollection gameObjects){
-        this.gameObjects = gameObjects;
+    public RemoveBrickStrategy(GameObjectCommandBuffer commandBuffer, BrickContainer brickContainer){
+        this.commandBuffer = commandBuffer;
+        this.brickContainer = brickContainer;
     }
 
     /**
-     * Removes a brick upon collision and decrements the bricks counter
+     * Removes a brick upon collision and decrements the bricks counter. The brick is removed from the
+     * game as well only if the container's bricks are game objects.
      * @param collidedObj   object that has been collided
      * @param colliderObj   object that is the collider
      * @param bricksCounter bricks counter of the game
      */
     public void onCollision(GameObject collidedObj, GameObject colliderObj, Counter bricksCounter){
-        this.gameObjects.removeGameObject(collidedObj, Layer.STATIC_OBJECTS);
+        if (brickContainer.holdsGameObjects()){
+            this.commandBuffer.remove(collidedObj, Layer.STATIC_OBJECTS);
+        }
+        brickContainer.removeBrick(collidedObj);
         bricksCounter.decrement();
     }
 }
@@ -0,0 +1,137 @@
+package src.effects;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The following class schedules the expiry of effects, such as the camera following the ball or an
+ * additional paddle, instead of every effect adding a game object which checks every frame whether
+ * it has expired.
+ * An effect expires after a number of hits of a target object. The effects are kept per target and
+ * visited only when their target is hit, so effects whose targets are not hit cost nothing.
+ * The scheduler is meant to be used by the game's thread only.
+ * @author Eliyahu Tamarkin
+ */
+public class EffectScheduler {
+
+    /**
+     * The following class is a scheduled effect, which may be cancelled until it expires
+     */
+    public static final class Effect {
+
+        private final Runnable onExpire;
+        private final Object target;
+        private int remainingHits;
+        private boolean pending = true;
+
+        /**
+         * Constructs a new Effect instance.
+         * @param target the object whose hits are counted
+         * @param remainingHits amount of hits until the effect expires
+         * @param onExpire called once the effect expires
+         */
+        private Effect(Object target, int remainingHits, Runnable onExpire) {
+            this.target = target;
+            this.remainingHits = remainingHits;
+            this.onExpire = onExpire;
+        }
+
+        /**
+         * Pending getter
+         * @return true if the effect has neither expired nor been cancelled and false otherwise
+         */
+        public boolean isPending() {
+            return pending;
+        }
+    }
+
+    private final Map<Object, List<Effect>> hitEffects = new IdentityHashMap<>();
+    private final List<Effect> expiredHitEffects = new ArrayList<>();
+    private int numOfHitEffects;
+
+    /**
+     * Schedules an effect to expire after a number of hits of a target, counted from now on
+     * @param target the object whose hits are counted, reported through recordHit
+     * @param hits amount of hits until the effect expires, at least 1
+     * @param onExpire called once the effect expires
+     * @return the scheduled effect
+     */
+    public Effect afterHits(Object target, int hits, Runnable onExpire) {
+        if (hits < 1) {
+            throw new IllegalArgumentException("hits must be positive");
+        }
+        Effect effect = new Effect(target, hits, onExpire);
+        hitEffects.computeIfAbsent(target, key -> new ArrayList<>()).add(effect);
+        numOfHitEffects++;
+        return effect;
+    }
+
+    /**
+     * Cancels an effect, so that it never expires. Cancelling an effect which is no longer pending has
+     * no effect.
+     * @param effect the effect
+     */
+    public void cancel(Effect effect) {
+        if (effect == null || !effect.pending) {
+            return;
+        }
+        effect.pending = false;
+        List<Effect> targetEffects = hitEffects.get(effect.target);
+        targetEffects.remove(effect);
+        if (targetEffects.isEmpty()) {
+            hitEffects.remove(effect.target);
+        }
+        numOfHitEffects--;
+    }
+
+    /**
+     * Reports a hit of an object, expiring the effects waiting for its last hit. Objects no effect is
+     * waiting on cost a single lookup. Expiring effects may not report hits themselves.
+     * @param target the object that has been hit
+     */
+    public void recordHit(Object target) {
+        List<Effect> targetEffects = hitEffects.get(target);
+        if (targetEffects == null) {
+            return;
+        }
+        for (int i = targetEffects.size() - 1; i >= 0; i--) {
+            Effect effect = targetEffects.get(i);
+            if (--effect.remainingHits == 0) {
+                targetEffects.remove(i);
+                effect.pending = false;
+                numOfHitEffects--;
+                expiredHitEffects.add(effect);
+            }
+        }
+        if (targetEffects.isEmpty()) {
+            hitEffects.remove(target);
+        }
+        for (int i = expiredHitEffects.size() - 1; i >= 0; i--) {
+            expiredHitEffects.get(i).onExpire.run();
+        }
+        expiredHitEffects.clear();
+    }
+
+    /**
+     * Cancels every pending effect, when the game is reset
+     */
+    public void clear() {
+        for (List<Effect> targetEffects : hitEffects.values()) {
+            for (Effect effect : targetEffects) {
+                effect.pending = false;
+            }
+        }
+        hitEffects.clear();
+        numOfHitEffects = 0;
+    }
+
+    /**
+     * Pending effects getter
+     * @return amount of effects which have neither expired nor been cancelled
+     */
+    public int getPendingCount() {
+        return numOfHitEffects;
+    }
+}
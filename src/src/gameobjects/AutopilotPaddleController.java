@@ -0,0 +1,124 @@
+package src.gameobjects;
+
+import danogl.util.Vector2;
+import src.physics.SweptBodies;
+
+/**
+ * The following class moves a paddle without a user, towards the point a ball is predicted to reach
+ * the paddle at.
+ * The prediction is analytic: the ball's horizontal path is unfolded into a straight line, and its
+ * reflections off the side walls are found by folding the point the line reaches at the paddle's
+ * height back into the window, in constant time however many times the ball bounces. A rising ball is
+ * assumed to bounce off the top of the window before it comes down. Bricks on the way are not taken
+ * into account, so the prediction is refined every step as the ball moves.
+ * The main ball is followed whenever it is falling, otherwise the falling ball closest to the paddle
+ * in time, and when no ball is falling the paddle waits where the main ball will come down.
+ * @author Eliyahu Tamarkin
+ */
+public class AutopilotPaddleController implements PaddleController {
+
+    private static final float DEAD_ZONE_RATIO = 0.25f;
+
+    private final SweptBodies sweptBodies;
+    private final Ball mainBall;
+    private final Vector2 windowDimensions;
+
+    /**
+     * Constructs a new AutopilotPaddleController instance.
+     * @param sweptBodies the balls of the current game
+     * @param mainBall the main ball of the game
+     * @param windowDimensions window dimensions of the game
+     */
+    public AutopilotPaddleController(SweptBodies sweptBodies, Ball mainBall,
+                                     Vector2 windowDimensions) {
+        this.sweptBodies = sweptBodies;
+        this.mainBall = mainBall;
+        this.windowDimensions = windowDimensions;
+    }
+
+    /**
+     * Moves the paddle towards the point the followed ball is predicted to reach it at, and keeps it in
+     * place once the point is well within the paddle
+     * @param paddle the controlled paddle
+     * @return the direction of the predicted point
+     */
+    @Override
+    public int getMovementDirection(Paddle paddle) {
+        float paddleTop = paddle.getTopLeftCorner().y();
+        Ball followedBall = mainBall;
+        if (!isFalling(mainBall, paddleTop)) {
+            float earliestArrival = Float.POSITIVE_INFINITY;
+            for (Ball ball : sweptBodies.getBalls()) {
+                if (isFalling(ball, paddleTop)) {
+                    float arrival = getArrivalTime(ball, paddleTop);
+                    if (arrival < earliestArrival) {
+                        earliestArrival = arrival;
+                        followedBall = ball;
+                    }
+                }
+            }
+        }
+        float arrival = getArrivalTime(followedBall, paddleTop);
+        if (Float.isInfinite(arrival)) {
+            return 0;
+        }
+        float distance = predictCenterX(followedBall, arrival) - paddle.getCenter().x();
+        if (Math.abs(distance) < paddle.getDimensions().x() * DEAD_ZONE_RATIO) {
+            return 0;
+        }
+        return distance < 0 ? -1 : 1;
+    }
+
+    /**
+     * Checks whether a ball is falling towards a paddle
+     * @param ball the ball
+     * @param paddleTop height of the paddle's top edge
+     * @return true if the ball is above the paddle and moving down, and false otherwise
+     */
+    private static boolean isFalling(Ball ball, float paddleTop) {
+        return ball.getVelocity().y() > 0 &&
+                ball.getTopLeftCorner().y() + ball.getDimensions().y() <= paddleTop;
+    }
+
+    /**
+     * Calculates the time a ball will take to reach a paddle's height, bouncing off the top of the
+     * window first if it is rising
+     * @param ball the ball
+     * @param paddleTop height of the paddle's top edge
+     * @return the time in seconds, or infinity if the ball will not reach the paddle
+     */
+    private static float getArrivalTime(Ball ball, float paddleTop) {
+        float verticalSpeed = ball.getVelocity().y();
+        float top = ball.getTopLeftCorner().y();
+        float bottom = top + ball.getDimensions().y();
+        if (verticalSpeed > 0) {
+            return bottom <= paddleTop ? (paddleTop - bottom) / verticalSpeed : Float.POSITIVE_INFINITY;
+        }
+        if (verticalSpeed < 0) {
+            return (top + paddleTop - ball.getDimensions().y()) / -verticalSpeed;
+        }
+        return Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Predicts the horizontal position of a ball's center after a given time, reflecting it off the
+     * side walls of the window
+     * @param ball the ball
+     * @param time the time in seconds
+     * @return the predicted horizontal position of the ball's center
+     */
+    private float predictCenterX(Ball ball, float time) {
+        float halfWidth = ball.getDimensions().x() / 2;
+        float minX = halfWidth;
+        float span = windowDimensions.x() - 2 * halfWidth;
+        if (span <= 0) {
+            return windowDimensions.x() / 2;
+        }
+        float unfolded = ball.getCenter().x() + ball.getVelocity().x() * time - minX;
+        float folded = unfolded % (2 * span);
+        if (folded < 0) {
+            folded += 2 * span;
+        }
+        return minX + (folded <= span ? folded : 2 * span - folded);
+    }
+}
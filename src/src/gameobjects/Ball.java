@@ -4,15 +4,24 @@ import danogl.collisions.Collision;
 import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
+import src.audio.AudioDispatcher;
+import src.effects.EffectScheduler;
+import src.profiling.PerformanceMonitor;
 
 /**
  * The following class represents the ball of the bricker game.
  * @author Eliyahu Tamarkin
  */
-public class Ball extends GameObject {
+public class Ball extends GameObject implements Interpolated, CollisionFiltered {
     private final Sound collisionSound;
+    private final AudioDispatcher audioDispatcher;
+    private final int soundPriority;
+    private final InterpolatedRenderable interpolatedRenderable;
+    private final PerformanceMonitor performanceMonitor;
 
     private int collisionNum;
+    private boolean movedBySweep;
+    private EffectScheduler effectScheduler;
 
     /**
      * Constructs a new Ball instance.
@@ -22,12 +31,75 @@ public class Ball extends GameObject {
      * @param dimensions    Width and height in window coordinates.
      * @param renderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
-     * @param sound         The sound the ball makes upon collision with other objects
+     * @param sound         The sound the ball makes upon collision with other objects. Can be null,
+     *                      in which case the ball is silent (e.g. in headless runs)
+     * @param audioDispatcher dispatcher the collision sound is played through
+     * @param soundPriority priority of the ball's collision sound over other balls sharing it
+     * @param performanceMonitor monitor the ball's collisions are measured with
      */
-    public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound sound) {
+    public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound sound,
+                AudioDispatcher audioDispatcher, int soundPriority,
+                PerformanceMonitor performanceMonitor) {
         super(topLeftCorner, dimensions, renderable);
         this.collisionSound = sound;
+        this.audioDispatcher = audioDispatcher;
+        this.soundPriority = soundPriority;
+        this.performanceMonitor = performanceMonitor;
         this.collisionNum = 0;
+        this.interpolatedRenderable = renderable == null ? null :
+                new InterpolatedRenderable(this, renderable);
+        if (interpolatedRenderable != null) {
+            renderer().setRenderable(interpolatedRenderable);
+        }
+    }
+
+    /**
+     * Saves the position of the ball at the start of the simulation step before moving it. A ball the
+     * swept collision world has already moved through the step is not moved by the engine again.
+     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
+     *                  be used to determine a new position/velocity by multiplying
+     *                  this delta with the velocity/acceleration respectively
+     *                  and adding to the position/velocity:
+     *                  velocity += deltaTime*acceleration
+     *                  pos += deltaTime*velocity
+     */
+    @Override
+    public void update(float deltaTime) {
+        if (!movedBySweep) {
+            if (interpolatedRenderable != null) {
+                interpolatedRenderable.saveStepStart();
+            }
+            super.update(deltaTime);
+            return;
+        }
+        movedBySweep = false;
+        Vector2 velocity = getVelocity();
+        setVelocity(Vector2.ZERO);
+        super.update(deltaTime);
+        setVelocity(velocity);
+    }
+
+    /**
+     * Saves the position of the ball at the start of the simulation step, before the swept collision
+     * world moves the ball through the step itself, so that the engine does not move it again in the
+     * following update.
+     */
+    public void beginSweptStep() {
+        if (interpolatedRenderable != null) {
+            interpolatedRenderable.saveStepStart();
+        }
+        movedBySweep = true;
+    }
+
+    /**
+     * Draws the ball between its last two simulated positions
+     * @param alpha fraction of a simulation step that passed since the last step, between 0 and 1
+     */
+    @Override
+    public void interpolate(float alpha) {
+        if (interpolatedRenderable != null) {
+            interpolatedRenderable.interpolate(alpha);
+        }
     }
 
     /**
@@ -39,11 +111,37 @@ public class Ball extends GameObject {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
+        long start = performanceMonitor.start();
         super.onCollisionEnter(other, collision);
+        bounce(collision.getNormal());
+        performanceMonitor.recordCollision(this, start);
+    }
+
+    /**
+     * Reflects the ball's velocity along the given normal, counts the collision and plays the
+     * collision sound, and reports the hit to the effect scheduler if the ball has one. Used for the
+     * collisions reported by the engine and for the impacts found by the swept collision world and
+     * the brick containers.
+     * @param normal normal of the surface the ball has hit
+     */
+    public void bounce(Vector2 normal){
         collisionNum++;
-        setVelocity(getVelocity().flipped(collision.getNormal()));
-        collisionSound.play();
+        setVelocity(getVelocity().flipped(normal));
+        if (collisionSound != null){
+            audioDispatcher.trigger(collisionSound, soundPriority);
+        }
+        if (effectScheduler != null){
+            effectScheduler.recordHit(this);
+        }
+    }
 
+    /**
+     * Effect scheduler setter
+     * @param effectScheduler scheduler the hits of the ball are reported to, so that effects may
+     *                        expire after a number of hits of the ball. Can be null.
+     */
+    public void setEffectScheduler(EffectScheduler effectScheduler){
+        this.effectScheduler = effectScheduler;
     }
 
     /**
@@ -51,4 +149,28 @@ public class Ball extends GameObject {
      * @return amount of collisions
      */
     public int getCollisionCount(){ return this.collisionNum; }
+
+    /**
+     * Resets the collision counter of the ball
+     */
+    public void resetCollisionCount(){ this.collisionNum = 0; }
+
+    /**
+     * Rejects the objects the ball may not collide with before the engine tests their shapes
+     * @param other The other GameObject
+     * @return true if the objects' collision categories may collide and false otherwise
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionCategory.canCollide(getCollisionCategory(), other);
+    }
+
+    /**
+     * Collision category getter
+     * @return CollisionCategory.BALL
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.BALL;
+    }
 }
@@ -6,16 +6,19 @@ import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.profiling.PerformanceMonitor;
 
 
 /**
  * The following class represents the brick of the bricker game.
  * @author Eliyahu Tamarkin
  */
-public class Brick extends GameObject {
-    private static final String DESTROYED_TAG = "Destroyed";
+public class Brick extends GameObject implements CollisionFiltered {
     private final CollisionStrategy collisionStrategy;
     private final Counter counter;
+    private final PerformanceMonitor performanceMonitor;
+    private int gridIndex = BrickGrid.NO_CELL;
+    private boolean destroyed;
 
     /**
      * Constructs a new Brick instance.
@@ -27,12 +30,15 @@ public class Brick extends GameObject {
      *                      the GameObject will not be rendered.
      * @param collisionStrategy collision strategy to be played upon collision
      * @param counter       counter that determines the amount of bricks in the game
+     * @param performanceMonitor monitor the brick's collisions and strategy are measured with
      */
     public Brick(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                 CollisionStrategy collisionStrategy, Counter counter) {
+                 CollisionStrategy collisionStrategy, Counter counter,
+                 PerformanceMonitor performanceMonitor) {
         super(topLeftCorner, dimensions, renderable);
         this.collisionStrategy = collisionStrategy;
         this.counter = counter;
+        this.performanceMonitor = performanceMonitor;
     }
 
     /**
@@ -44,11 +50,49 @@ public class Brick extends GameObject {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
+        long start = performanceMonitor.start();
         super.onCollisionEnter(other, collision);
-        if (this.getTag().equals(DESTROYED_TAG)){
+        hit(other);
+        performanceMonitor.recordCollision(this, start);
+    }
+
+    /**
+     * Plays the brick's collision strategy, unless the brick has already been destroyed. A destroyed
+     * brick stays in the game until the end of the step, so it may be hit again in the meantime.
+     * @param other the object that has hit the brick
+     */
+    public void hit(GameObject other){
+        if (destroyed){
             return;
         }
+        destroyed = true;
+        long start = performanceMonitor.start();
         collisionStrategy.onCollision(this, other, counter);
-        this.setTag(DESTROYED_TAG);
+        performanceMonitor.recordStrategy(collisionStrategy, start);
+    }
+
+    /**
+     * Grid index getter
+     * @return index of the brick's cell in its brick grid, or BrickGrid.NO_CELL if it has none
+     */
+    int getGridIndex(){
+        return gridIndex;
+    }
+
+    /**
+     * Grid index setter
+     * @param gridIndex index of the brick's cell in its brick grid
+     */
+    void setGridIndex(int gridIndex){
+        this.gridIndex = gridIndex;
+    }
+
+    /**
+     * Collision category getter
+     * @return CollisionCategory.BRICK
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.BRICK;
     }
 }
@@ -0,0 +1,34 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+
+/**
+ * Interface of the stores that hold the bricks of a level and collide them with the balls.
+ * @author Eliyahu Tamarkin
+ */
+public interface BrickContainer {
+    /**
+     * Removes a brick which was passed to a collision strategy as the collided object
+     * @param brick the collided object
+     * @return true if the brick was held by the container and false otherwise
+     */
+    boolean removeBrick(GameObject brick);
+
+    /**
+     * Game object bricks getter
+     * @return true if the container's bricks are game objects in the game, which have to be removed
+     *         from it once hit, and false if the container stands for its bricks itself
+     */
+    boolean holdsGameObjects();
+
+    /**
+     * Bricks getter
+     * @return amount of bricks currently held by the container
+     */
+    int getNumOfBricks();
+
+    /**
+     * Removes all of the container's bricks, so that the bricks of a new game can be laid in it
+     */
+    void removeAllBricks();
+}
@@ -0,0 +1,351 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import src.brick_strategies.CollisionStrategy;
+import src.physics.Sweep;
+import src.physics.SweepHit;
+import src.physics.SweptBodies;
+import src.physics.SweptObstacle;
+import src.profiling.PerformanceMonitor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The following class is a data oriented store for the bricks of very large levels.
+ * Instead of a game object per brick, the field keeps a single alive bit and a strategy id per cell
+ * of a uniform grid, with the brick position implied by its cell, and collides all of its bricks in
+ * bulk. Its bricks are drawn in bulk as well, by a brick layer. Distinct strategies are kept once in
+ * a palette the strategy ids point into.
+ * When a brick is hit, its strategy is played with a brick view: a single reusable game object that
+ * is moved to the hit brick, so the collision strategies keep receiving a game object holding the
+ * brick's position and dimensions. Strategies must not keep a reference to the view.
+ * As the field's bricks are not game objects the engine could collide, the field applies the collision
+ * masks itself, treating every brick as a CollisionCategory.BRICK object.
+ * @author Eliyahu Tamarkin
+ */
+public class BrickField extends GameObject implements BrickContainer, SweptObstacle {
+
+    /**
+     * The following class is the reusable game object standing for the brick that is being hit
+     */
+    private static class BrickView extends GameObject {
+
+        private int index;
+
+        /**
+         * Constructs a new BrickView instance.
+         * @param dimensions dimensions of a single brick
+         */
+        BrickView(Vector2 dimensions) {
+            super(Vector2.ZERO, dimensions, null);
+        }
+    }
+
+    private final SweptBodies sweptBodies;
+    private final Vector2 origin;
+    private final Vector2 cellDimensions;
+    private final Vector2 brickDimensions;
+    private final int rows;
+    private final int columns;
+    private final Counter bricksCounter;
+    private final BitSet alive;
+    private final int[] strategyIds;
+    private final ArrayList<CollisionStrategy> strategies = new ArrayList<>();
+    private final Map<CollisionStrategy, Integer> strategyPalette = new IdentityHashMap<>();
+    private final ArrayList<Ball> balls = new ArrayList<>();
+    private final BrickView brickView;
+    private final PerformanceMonitor performanceMonitor;
+    private BrickLayer brickLayer;
+    private int numOfBricks;
+
+    /**
+     * Constructs a new BrickField instance.
+     * @param sweptBodies     the balls of the current game
+     * @param origin          top left corner of the brick at the first row and column
+     * @param cellDimensions  horizontal and vertical distance between the top left corners of
+     *                        neighbouring bricks
+     * @param brickDimensions dimensions of a single brick, no larger than its cell
+     * @param rows            amount of rows in the field
+     * @param columns         amount of bricks in every row
+     * @param bricksCounter   bricks counter of the game, passed to the collision strategies
+     * @param performanceMonitor monitor the field's updates and strategies are measured with
+     */
+    public BrickField(SweptBodies sweptBodies, Vector2 origin, Vector2 cellDimensions,
+                      Vector2 brickDimensions, int rows, int columns, Counter bricksCounter,
+                      PerformanceMonitor performanceMonitor) {
+        super(origin, new Vector2(columns * cellDimensions.x(), rows * cellDimensions.y()), null);
+        if (rows <= 0 || columns <= 0 || cellDimensions.x() <= 0 || cellDimensions.y() <= 0) {
+            throw new IllegalArgumentException("field must have a positive size");
+        }
+        this.sweptBodies = sweptBodies;
+        this.origin = origin;
+        this.cellDimensions = cellDimensions;
+        this.brickDimensions = brickDimensions;
+        this.rows = rows;
+        this.columns = columns;
+        this.bricksCounter = bricksCounter;
+        this.performanceMonitor = performanceMonitor;
+        this.alive = new BitSet(rows * columns);
+        this.strategyIds = new int[rows * columns];
+        this.brickView = new BrickView(brickDimensions);
+    }
+
+    /**
+     * Sets the layer the bricks of the field are drawn by. The field itself is not rendered.
+     * @param brickLayer layer covering the field's cells, or null to stop updating one
+     */
+    public void setBrickLayer(BrickLayer brickLayer) {
+        this.brickLayer = brickLayer;
+        if (brickLayer != null) {
+            for (int index = alive.nextSetBit(0); index >= 0; index = alive.nextSetBit(index + 1)) {
+                brickLayer.addBrick(index);
+            }
+        }
+    }
+
+    /**
+     * Places a brick at a given cell
+     * @param row row of the cell
+     * @param column column of the cell
+     * @param strategy collision strategy to be played when the brick is hit
+     */
+    public void addBrick(int row, int column, CollisionStrategy strategy) {
+        int index = row * columns + column;
+        if (alive.get(index)) {
+            throw new IllegalStateException("cell " + row + "," + column + " is already taken");
+        }
+        Integer strategyId = strategyPalette.get(strategy);
+        if (strategyId == null) {
+            strategyId = strategies.size();
+            strategies.add(strategy);
+            strategyPalette.put(strategy, strategyId);
+        }
+        strategyIds[index] = strategyId;
+        alive.set(index);
+        numOfBricks++;
+        if (brickLayer != null) {
+            brickLayer.addBrick(index);
+        }
+    }
+
+    /**
+     * Removes the brick the brick view currently stands for
+     * @param brick the collided object passed to the collision strategy
+     * @return true if the brick was alive and false otherwise
+     */
+    @Override
+    public boolean removeBrick(GameObject brick) {
+        if (brick != brickView) {
+            return false;
+        }
+        return removeBrick(brickView.index);
+    }
+
+    /**
+     * Game object bricks getter
+     * @return false, since the field's bricks are not game objects and the brick passed to the
+     *         strategies is never added to the game
+     */
+    @Override
+    public boolean holdsGameObjects() {
+        return false;
+    }
+
+    /**
+     * Removes all of the field's bricks
+     */
+    @Override
+    public void removeAllBricks() {
+        for (int index = alive.nextSetBit(0); index >= 0; index = alive.nextSetBit(index + 1)) {
+            removeBrick(index);
+        }
+    }
+
+    /**
+     * Bricks getter
+     * @return amount of alive bricks in the field
+     */
+    @Override
+    public int getNumOfBricks() {
+        return numOfBricks;
+    }
+
+    /**
+     * Distinct strategies getter
+     * @return amount of distinct strategy instances the bricks of the field point to
+     */
+    public int getNumOfDistinctStrategies() {
+        return strategies.size();
+    }
+
+    /**
+     * The field itself never takes part in the engine's collisions
+     * @param other The other GameObject
+     * @return false
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+
+    /**
+     * Collides every ball of the game with the bricks around it
+     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
+     *                  be used to determine a new position/velocity by multiplying
+     *                  this delta with the velocity/acceleration respectively
+     *                  and adding to the position/velocity:
+     *                  velocity += deltaTime*acceleration
+     *                  pos += deltaTime*velocity
+     */
+    @Override
+    public void update(float deltaTime) {
+        long start = performanceMonitor.start();
+        super.update(deltaTime);
+        if (numOfBricks > 0) {
+            balls.clear();
+            balls.addAll(sweptBodies.getBalls());
+            for (Ball ball : balls) {
+                collideBall(ball);
+            }
+        }
+        performanceMonitor.recordUpdate(this, start);
+    }
+
+    /**
+     * Sweeps a moving box against the bricks of the cells its path passes over, unless its collision
+     * category may not collide with the bricks
+     * @param mover the moving object, whose box is swept from its current position
+     * @param displacement the movement of the box over the sweep
+     * @param hit the earliest impact found so far
+     */
+    @Override
+    public void sweep(GameObject mover, Vector2 displacement, SweepHit hit) {
+        if (!CollisionCategory.canCollide(CollisionCategory.BRICK, mover)) {
+            return;
+        }
+        Vector2 moverCorner = mover.getTopLeftCorner();
+        Vector2 moverDimensions = mover.getDimensions();
+        float left = Math.min(moverCorner.x(), moverCorner.x() + displacement.x());
+        float top = Math.min(moverCorner.y(), moverCorner.y() + displacement.y());
+        float right = Math.max(moverCorner.x(), moverCorner.x() + displacement.x()) + moverDimensions.x();
+        float bottom = Math.max(moverCorner.y(), moverCorner.y() + displacement.y()) + moverDimensions.y();
+        int firstColumn = Math.max(0, (int) Math.floor((left - origin.x()) / cellDimensions.x()));
+        int lastColumn = Math.min(columns - 1, (int) Math.floor((right - origin.x()) / cellDimensions.x()));
+        int firstRow = Math.max(0, (int) Math.floor((top - origin.y()) / cellDimensions.y()));
+        int lastRow = Math.min(rows - 1, (int) Math.floor((bottom - origin.y()) / cellDimensions.y()));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int index = row * columns + column;
+                if (alive.get(index)) {
+                    Sweep.sweepBox(moverCorner.x(), moverCorner.y(), moverDimensions.x(),
+                            moverDimensions.y(), displacement.x(), displacement.y(),
+                            origin.x() + column * cellDimensions.x(), origin.y() + row * cellDimensions.y(),
+                            brickDimensions.x(), brickDimensions.y(), hit, this, index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hits the brick a moving object has been swept into
+     * @param mover the moving object
+     * @param hit the impact
+     */
+    @Override
+    public void onSweptHit(GameObject mover, SweepHit hit) {
+        int index = hit.getCell();
+        if (alive.get(index)) {
+            hitBrick(index, new Vector2(
+                    origin.x() + (index % columns) * cellDimensions.x() + brickDimensions.x() / 2,
+                    origin.y() + (index / columns) * cellDimensions.y() + brickDimensions.y() / 2), mover);
+        }
+    }
+
+    /**
+     * Hits every alive brick the ball touches and bounces the ball once off the brick it penetrates
+     * the most. Balls whose collision category may not collide with the bricks are skipped.
+     * @param ball ball to collide
+     */
+    private void collideBall(Ball ball) {
+        if (!CollisionCategory.canCollide(CollisionCategory.BRICK, ball)) {
+            return;
+        }
+        Vector2 ballCorner = ball.getTopLeftCorner();
+        Vector2 ballDimensions = ball.getDimensions();
+        float left = ballCorner.x();
+        float top = ballCorner.y();
+        float right = left + ballDimensions.x();
+        float bottom = top + ballDimensions.y();
+        int firstColumn = Math.max(0, (int) Math.floor((left - origin.x()) / cellDimensions.x()));
+        int lastColumn = Math.min(columns - 1, (int) Math.floor((right - origin.x()) / cellDimensions.x()));
+        int firstRow = Math.max(0, (int) Math.floor((top - origin.y()) / cellDimensions.y()));
+        int lastRow = Math.min(rows - 1, (int) Math.floor((bottom - origin.y()) / cellDimensions.y()));
+        Vector2 bounceNormal = null;
+        float deepestPenetration = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int index = row * columns + column;
+                if (!alive.get(index)) {
+                    continue;
+                }
+                float brickLeft = origin.x() + column * cellDimensions.x();
+                float brickTop = origin.y() + row * cellDimensions.y();
+                float overlapX = Math.min(right, brickLeft + brickDimensions.x()) - Math.max(left, brickLeft);
+                float overlapY = Math.min(bottom, brickTop + brickDimensions.y()) - Math.max(top, brickTop);
+                if (overlapX <= 0 || overlapY <= 0) {
+                    continue;
+                }
+                Vector2 brickCenter = new Vector2(brickLeft + brickDimensions.x() / 2,
+                        brickTop + brickDimensions.y() / 2);
+                float penetration = Math.min(overlapX, overlapY);
+                if (penetration > deepestPenetration) {
+                    deepestPenetration = penetration;
+                    bounceNormal = BrickGrid.getNormal(ball, brickCenter, overlapX < overlapY);
+                }
+                hitBrick(index, brickCenter, ball);
+            }
+        }
+        if (bounceNormal != null && ball.getVelocity().dot(bounceNormal) < 0) {
+            ball.bounce(bounceNormal);
+        }
+    }
+
+    /**
+     * Plays the strategy of a brick with the brick view standing for it. The brick is destroyed
+     * after a single hit, the same as a Brick game object.
+     * @param index index of the brick's cell
+     * @param brickCenter center of the brick
+     * @param ball the object that has hit the brick
+     */
+    private void hitBrick(int index, Vector2 brickCenter, GameObject ball) {
+        brickView.index = index;
+        brickView.setCenter(brickCenter);
+        CollisionStrategy strategy = strategies.get(strategyIds[index]);
+        long start = performanceMonitor.start();
+        strategy.onCollision(brickView, ball, bricksCounter);
+        performanceMonitor.recordStrategy(strategy, start);
+        removeBrick(index);
+    }
+
+    /**
+     * Helper function clearing the alive bit of a cell
+     * @param index index of the cell
+     * @return true if the brick was alive and false otherwise
+     */
+    private boolean removeBrick(int index) {
+        if (!alive.get(index)) {
+            return false;
+        }
+        alive.clear(index);
+        numOfBricks--;
+        if (brickLayer != null) {
+            brickLayer.removeBrick(index);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,337 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.util.Vector2;
+import src.physics.Sweep;
+import src.physics.SweepHit;
+import src.physics.SweptBodies;
+import src.physics.SweptObstacle;
+import src.profiling.PerformanceMonitor;
+
+import java.util.ArrayList;
+
+/**
+ * The following class is a uniform grid index of the bricks of the bricker game.
+ * Every brick is kept in the cell of the row and column it was laid out at, and every frame the grid
+ * collides the balls of the game with the bricks of the cells their bounding box overlaps, looked up
+ * directly from the box coordinates. The engine's pairwise collision between the balls and the
+ * bricks layer should be turned off while a grid is in use, so that the cost of colliding a ball with
+ * the bricks does not depend on the amount of bricks in the level.
+ * The grid is also a swept obstacle, so balls moved with swept collision hit its bricks at the exact
+ * time of impact; the per frame overlap check then only handles balls placed into bricks.
+ * Since the engine never collides the balls with the bricks, the grid applies the collision masks
+ * itself: both the sweep and the overlap check skip the objects whose category may not collide with
+ * CollisionCategory.BRICK.
+ * @author Eliyahu Tamarkin
+ */
+public class BrickGrid extends GameObject implements BrickContainer, SweptObstacle {
+
+    /**
+     * Grid index of a brick which is not held by any grid
+     */
+    public static final int NO_CELL = -1;
+
+    private final GameObjectCollection gameObjects;
+    private final SweptBodies sweptBodies;
+    private final Vector2 origin;
+    private final Vector2 cellDimensions;
+    private final int rows;
+    private final int columns;
+    private final Brick[] cells;
+    private final ArrayList<Ball> balls = new ArrayList<>();
+    private final PerformanceMonitor performanceMonitor;
+    private int numOfBricks;
+    private BrickLayer brickLayer;
+
+    /**
+     * Constructs a new BrickGrid instance.
+     * @param gameObjects    the current game's game objects, which the bricks are removed from
+     * @param sweptBodies    the balls of the current game
+     * @param origin         top left corner of the brick at the first row and column
+     * @param cellDimensions horizontal and vertical distance between the top left corners of
+     *                       neighbouring bricks. Bricks may be smaller than their cell.
+     * @param rows           amount of rows in the grid
+     * @param columns        amount of bricks in every row
+     * @param performanceMonitor monitor the grid's updates are measured with
+     */
+    public BrickGrid(GameObjectCollection gameObjects, SweptBodies sweptBodies, Vector2 origin,
+                     Vector2 cellDimensions, int rows, int columns,
+                     PerformanceMonitor performanceMonitor) {
+        super(Vector2.ZERO, Vector2.ZERO, null);
+        if (rows <= 0 || columns <= 0 || cellDimensions.x() <= 0 || cellDimensions.y() <= 0) {
+            throw new IllegalArgumentException("grid must have a positive size");
+        }
+        this.gameObjects = gameObjects;
+        this.sweptBodies = sweptBodies;
+        this.origin = origin;
+        this.cellDimensions = cellDimensions;
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new Brick[rows * columns];
+        this.performanceMonitor = performanceMonitor;
+    }
+
+    /**
+     * Calculates the top left corner of a given cell
+     * @param row row of the cell
+     * @param column column of the cell
+     * @return the top left corner of the cell in window coordinates
+     */
+    public Vector2 getCellTopLeftCorner(int row, int column) {
+        return new Vector2(origin.x() + column * cellDimensions.x(),
+                origin.y() + row * cellDimensions.y());
+    }
+
+    /**
+     * Sets the layer the bricks of the grid are drawn by, in which case the bricks themselves should
+     * not be rendered
+     * @param brickLayer layer covering the grid's cells, or null to stop updating one
+     */
+    public void setBrickLayer(BrickLayer brickLayer) {
+        this.brickLayer = brickLayer;
+        if (brickLayer != null) {
+            for (int index = 0; index < cells.length; index++) {
+                if (cells[index] != null) {
+                    brickLayer.addBrick(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Places a brick at a given cell
+     * @param brick brick to place
+     * @param row row of the cell
+     * @param column column of the cell
+     */
+    public void addBrick(Brick brick, int row, int column) {
+        int index = row * columns + column;
+        if (cells[index] != null) {
+            throw new IllegalStateException("cell " + row + "," + column + " is already taken");
+        }
+        cells[index] = brick;
+        brick.setGridIndex(index);
+        numOfBricks++;
+        if (brickLayer != null) {
+            brickLayer.addBrick(index);
+        }
+    }
+
+    /**
+     * Removes a brick from its cell in O(1)
+     * @param brick brick to remove
+     * @return true if the brick was held by the grid and false otherwise
+     */
+    @Override
+    public boolean removeBrick(GameObject brick) {
+        if (!(brick instanceof Brick)) {
+            return false;
+        }
+        return removeBrick((Brick) brick);
+    }
+
+    /**
+     * Removes a brick from its cell in O(1)
+     * @param brick brick to remove
+     * @return true if the brick was held by the grid and false otherwise
+     */
+    public boolean removeBrick(Brick brick) {
+        int index = brick.getGridIndex();
+        if (index == NO_CELL || cells[index] != brick) {
+            return false;
+        }
+        cells[index] = null;
+        brick.setGridIndex(NO_CELL);
+        numOfBricks--;
+        if (brickLayer != null) {
+            brickLayer.removeBrick(index);
+        }
+        return true;
+    }
+
+    /**
+     * Game object bricks getter
+     * @return true, since every brick of the grid is a game object in the static objects layer
+     */
+    @Override
+    public boolean holdsGameObjects() {
+        return true;
+    }
+
+    /**
+     * Removes all of the grid's bricks from the grid and from the game
+     */
+    @Override
+    public void removeAllBricks() {
+        for (Brick brick : cells) {
+            if (brick != null) {
+                gameObjects.removeGameObject(brick, Layer.STATIC_OBJECTS);
+                removeBrick(brick);
+            }
+        }
+    }
+
+    /**
+     * Bricks getter
+     * @return amount of bricks currently held by the grid
+     */
+    @Override
+    public int getNumOfBricks() {
+        return numOfBricks;
+    }
+
+    /**
+     * The grid itself never takes part in the engine's collisions
+     * @param other The other GameObject
+     * @return false
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+
+    /**
+     * Collides every ball of the game with the bricks around it
+     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
+     *                  be used to determine a new position/velocity by multiplying
+     *                  this delta with the velocity/acceleration respectively
+     *                  and adding to the position/velocity:
+     *                  velocity += deltaTime*acceleration
+     *                  pos += deltaTime*velocity
+     */
+    @Override
+    public void update(float deltaTime) {
+        long start = performanceMonitor.start();
+        super.update(deltaTime);
+        balls.clear();
+        balls.addAll(sweptBodies.getBalls());
+        for (Ball ball : balls) {
+            collideBall(ball);
+        }
+        performanceMonitor.recordUpdate(this, start);
+    }
+
+    /**
+     * Sweeps a moving box against the bricks of the cells its path passes over, unless its collision
+     * category may not collide with the bricks
+     * @param mover the moving object, whose box is swept from its current position
+     * @param displacement the movement of the box over the sweep
+     * @param hit the earliest impact found so far
+     */
+    @Override
+    public void sweep(GameObject mover, Vector2 displacement, SweepHit hit) {
+        if (!CollisionCategory.canCollide(CollisionCategory.BRICK, mover)) {
+            return;
+        }
+        Vector2 moverCorner = mover.getTopLeftCorner();
+        Vector2 moverDimensions = mover.getDimensions();
+        float left = Math.min(moverCorner.x(), moverCorner.x() + displacement.x());
+        float top = Math.min(moverCorner.y(), moverCorner.y() + displacement.y());
+        float right = Math.max(moverCorner.x(), moverCorner.x() + displacement.x()) + moverDimensions.x();
+        float bottom = Math.max(moverCorner.y(), moverCorner.y() + displacement.y()) + moverDimensions.y();
+        int firstColumn = Math.max(0, (int) Math.floor((left - origin.x()) / cellDimensions.x()));
+        int lastColumn = Math.min(columns - 1, (int) Math.floor((right - origin.x()) / cellDimensions.x()));
+        int firstRow = Math.max(0, (int) Math.floor((top - origin.y()) / cellDimensions.y()));
+        int lastRow = Math.min(rows - 1, (int) Math.floor((bottom - origin.y()) / cellDimensions.y()));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int index = row * columns + column;
+                Brick brick = cells[index];
+                if (brick != null) {
+                    Sweep.sweepBox(mover, displacement, brick.getTopLeftCorner(), brick.getDimensions(),
+                            hit, this, index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hits the brick a moving object has been swept into
+     * @param mover the moving object
+     * @param hit the impact
+     */
+    @Override
+    public void onSweptHit(GameObject mover, SweepHit hit) {
+        Brick brick = cells[hit.getCell()];
+        if (brick != null) {
+            brick.hit(mover);
+        }
+    }
+
+    /**
+     * Hits every brick whose cell the ball's bounding box overlaps and which the ball actually
+     * touches, and bounces the ball once off the brick it penetrates the most. Balls whose collision
+     * category may not collide with the bricks are skipped.
+     * @param ball ball to collide
+     */
+    private void collideBall(Ball ball) {
+        if (!CollisionCategory.canCollide(CollisionCategory.BRICK, ball)) {
+            return;
+        }
+        Vector2 ballCorner = ball.getTopLeftCorner();
+        Vector2 ballDimensions = ball.getDimensions();
+        float left = ballCorner.x();
+        float top = ballCorner.y();
+        float right = left + ballDimensions.x();
+        float bottom = top + ballDimensions.y();
+        int firstColumn = Math.max(0, (int) Math.floor((left - origin.x()) / cellDimensions.x()));
+        int lastColumn = Math.min(columns - 1, (int) Math.floor((right - origin.x()) / cellDimensions.x()));
+        int firstRow = Math.max(0, (int) Math.floor((top - origin.y()) / cellDimensions.y()));
+        int lastRow = Math.min(rows - 1, (int) Math.floor((bottom - origin.y()) / cellDimensions.y()));
+        Vector2 bounceNormal = null;
+        float deepestPenetration = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                Brick brick = cells[row * columns + column];
+                if (brick == null) {
+                    continue;
+                }
+                Vector2 brickCorner = brick.getTopLeftCorner();
+                Vector2 brickDimensions = brick.getDimensions();
+                float overlapX = Math.min(right, brickCorner.x() + brickDimensions.x()) -
+                        Math.max(left, brickCorner.x());
+                float overlapY = Math.min(bottom, brickCorner.y() + brickDimensions.y()) -
+                        Math.max(top, brickCorner.y());
+                if (overlapX <= 0 || overlapY <= 0) {
+                    continue;
+                }
+                float penetration = Math.min(overlapX, overlapY);
+                if (penetration > deepestPenetration) {
+                    deepestPenetration = penetration;
+                    bounceNormal = getNormal(ball, brick, overlapX < overlapY);
+                }
+                brick.hit(ball);
+            }
+        }
+        if (bounceNormal != null && ball.getVelocity().dot(bounceNormal) < 0) {
+            ball.bounce(bounceNormal);
+        }
+    }
+
+    /**
+     * Helper function calculating the normal of the brick face the ball has hit
+     * @param ball the ball
+     * @param brick the brick that was hit
+     * @param horizontal whether the ball has hit the left or right face of the brick
+     * @return a unit normal pointing from the brick towards the ball
+     */
+    private static Vector2 getNormal(Ball ball, Brick brick, boolean horizontal) {
+        return getNormal(ball, brick.getCenter(), horizontal);
+    }
+
+    /**
+     * Helper function calculating the normal of the brick face the ball has hit
+     * @param ball the ball
+     * @param brickCenter center of the brick that was hit
+     * @param horizontal whether the ball has hit the left or right face of the brick
+     * @return a unit normal pointing from the brick towards the ball
+     */
+    static Vector2 getNormal(Ball ball, Vector2 brickCenter, boolean horizontal) {
+        if (horizontal) {
+            return ball.getCenter().x() < brickCenter.x() ? Vector2.LEFT : Vector2.RIGHT;
+        }
+        return ball.getCenter().y() < brickCenter.y() ? Vector2.UP : Vector2.DOWN;
+    }
+}
@@ -0,0 +1,176 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+
+/**
+ * The following class draws all the bricks of a brick grid or a brick field as a single object.
+ * In cached mode the bricks are drawn once into an offscreen image, which is then drawn with a single
+ * blit every frame, so the cost of a frame does not depend on the amount of bricks. Only the cells of
+ * bricks which were added or removed since the last frame are drawn into the image again. Otherwise
+ * every alive brick is drawn every frame.
+ * Bricks are added and removed by the brick store the layer belongs to, on the game's thread, which is
+ * also the thread the layer is rendered on.
+ * @author Eliyahu Tamarkin
+ */
+public class BrickLayer extends GameObject {
+
+    private final Vector2 cellDimensions;
+    private final Vector2 brickDimensions;
+    private final int columns;
+    private final Renderable brickRenderable;
+    private final boolean cached;
+    private final BitSet alive;
+    private final BitSet dirty;
+    private BufferedImage image;
+
+    /**
+     * The following class draws the bricks of the layer
+     */
+    private class LayerRenderable implements Renderable {
+
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            if (!cached) {
+                Vector2 scale = new Vector2(dimensions.x() / getDimensions().x(),
+                        dimensions.y() / getDimensions().y());
+                for (int index = alive.nextSetBit(0); index >= 0; index = alive.nextSetBit(index + 1)) {
+                    drawBrick(g, index, topLeftCorner, scale, opaqueness);
+                }
+                return;
+            }
+            updateImage();
+            Composite composite = g.getComposite();
+            if (opaqueness < 1) {
+                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opaqueness));
+            }
+            g.drawImage(image, (int) topLeftCorner.x(), (int) topLeftCorner.y(),
+                    (int) dimensions.x(), (int) dimensions.y(), null);
+            g.setComposite(composite);
+        }
+    }
+
+    /**
+     * Constructs a new BrickLayer instance.
+     * @param origin          top left corner of the brick at the first row and column
+     * @param cellDimensions  horizontal and vertical distance between the top left corners of
+     *                        neighbouring bricks
+     * @param brickDimensions dimensions of a single brick, no larger than its cell
+     * @param rows            amount of rows in the layer
+     * @param columns         amount of bricks in every row
+     * @param brickRenderable renderable of a single brick
+     * @param cached          true to draw the bricks from an offscreen image, false to draw every
+     *                        brick every frame
+     */
+    public BrickLayer(Vector2 origin, Vector2 cellDimensions, Vector2 brickDimensions, int rows,
+                      int columns, Renderable brickRenderable, boolean cached) {
+        super(origin, new Vector2(columns * cellDimensions.x(), rows * cellDimensions.y()), null);
+        this.cellDimensions = cellDimensions;
+        this.brickDimensions = brickDimensions;
+        this.columns = columns;
+        this.brickRenderable = brickRenderable;
+        this.cached = cached;
+        this.alive = new BitSet(rows * columns);
+        this.dirty = new BitSet(rows * columns);
+        renderer().setRenderable(new LayerRenderable());
+    }
+
+    /**
+     * The layer never takes part in the engine's collisions
+     * @param other The other GameObject
+     * @return false
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+
+    /**
+     * Draws a brick at a given cell from the next frame on
+     * @param index index of the cell, row * columns + column
+     */
+    void addBrick(int index) {
+        alive.set(index);
+        dirty.set(index);
+    }
+
+    /**
+     * Stops drawing the brick of a given cell from the next frame on
+     * @param index index of the cell, row * columns + column
+     */
+    void removeBrick(int index) {
+        alive.clear(index);
+        dirty.set(index);
+    }
+
+    /**
+     * Helper function which creates the offscreen image on first use, and otherwise draws the cells
+     * that changed since the last frame into it
+     */
+    private void updateImage() {
+        if (image == null) {
+            image = new BufferedImage((int) Math.ceil(getDimensions().x()),
+                    (int) Math.ceil(getDimensions().y()), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            for (int index = alive.nextSetBit(0); index >= 0; index = alive.nextSetBit(index + 1)) {
+                drawBrick(g, index, Vector2.ZERO, Vector2.ONES, 1);
+            }
+            g.dispose();
+            dirty.clear();
+            return;
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+        Graphics2D g = image.createGraphics();
+        for (int index = dirty.nextSetBit(0); index >= 0; index = dirty.nextSetBit(index + 1)) {
+            Vector2 corner = cellCorner(index, Vector2.ZERO, Vector2.ONES);
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect((int) corner.x(), (int) corner.y(), (int) brickDimensions.x(),
+                    (int) brickDimensions.y());
+            g.setComposite(AlphaComposite.SrcOver);
+            if (alive.get(index)) {
+                drawBrick(g, index, Vector2.ZERO, Vector2.ONES, 1);
+            }
+        }
+        g.dispose();
+        dirty.clear();
+    }
+
+    /**
+     * Helper function drawing the brick of a single cell
+     * @param g graphics to draw on
+     * @param index index of the cell
+     * @param topLeftCorner where the top left corner of the layer is drawn
+     * @param scale ratio between the drawn and the actual size of the layer
+     * @param opaqueness opaqueness to draw the brick with
+     */
+    private void drawBrick(Graphics2D g, int index, Vector2 topLeftCorner, Vector2 scale,
+                           double opaqueness) {
+        Vector2 scaledBrick = new Vector2(brickDimensions.x() * scale.x(),
+                brickDimensions.y() * scale.y());
+        brickRenderable.render(g, cellCorner(index, topLeftCorner, scale), scaledBrick, 0, false,
+                false, opaqueness);
+    }
+
+    /**
+     * Helper function calculating where the top left corner of a cell is drawn
+     * @param index index of the cell
+     * @param topLeftCorner where the top left corner of the layer is drawn
+     * @param scale ratio between the drawn and the actual size of the layer
+     * @return the drawn top left corner of the cell
+     */
+    private Vector2 cellCorner(int index, Vector2 topLeftCorner, Vector2 scale) {
+        return new Vector2(topLeftCorner.x() + (index % columns) * cellDimensions.x() * scale.x(),
+                topLeftCorner.y() + (index / columns) * cellDimensions.y() * scale.y());
+    }
+}
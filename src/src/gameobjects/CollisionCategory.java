@@ -0,0 +1,108 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+
+/**
+ * The following class holds the collision categories of the game's objects and the mask of every
+ * category, i.e. the categories its objects may collide with. A pair of objects collides only if each
+ * of them is in the other's mask, so pairs that cannot interact, such as two balls or a ball and a
+ * heart, are rejected with two bitwise tests before the engine tests their shapes. Objects which are
+ * not collision filtered are in no category and collide with nothing filtered.
+ * The balls meet the walls and the paddles through the swept collision world only, which bounces them
+ * itself, so these categories leave each other out of their masks and the engine does not report the
+ * same impact a second time.
+ * @author Eliyahu Tamarkin
+ */
+public final class CollisionCategory {
+
+    /**
+     * No category
+     */
+    public static final int NONE = 0;
+
+    /**
+     * The main ball
+     */
+    public static final int BALL = 1;
+
+    /**
+     * Puck balls
+     */
+    public static final int PUCK = 1 << 1;
+
+    /**
+     * Bricks
+     */
+    public static final int BRICK = 1 << 2;
+
+    /**
+     * The walls of the window
+     */
+    public static final int WALL = 1 << 3;
+
+    /**
+     * The user's paddle
+     */
+    public static final int PADDLE = 1 << 4;
+
+    /**
+     * Secondary paddles
+     */
+    public static final int BOT_PADDLE = 1 << 5;
+
+    /**
+     * Falling hearts
+     */
+    public static final int HEART = 1 << 6;
+
+    /**
+     * Objects of the user interface, such as the hearts of the lives counter
+     */
+    public static final int UI = 1 << 7;
+
+    private static final int BALLS = BALL | PUCK;
+    private static final int[] MASKS = {
+            BRICK, // BALL
+            BRICK, // PUCK
+            BALLS, // BRICK
+            NONE, // WALL
+            HEART, // PADDLE
+            NONE, // BOT_PADDLE
+            PADDLE, // HEART
+            NONE // UI
+    };
+
+    private CollisionCategory() {
+    }
+
+    /**
+     * Finds the mask of a category
+     * @param category a single category bit, or NONE
+     * @return the categories the objects of the category may collide with
+     */
+    public static int maskOf(int category) {
+        return category == NONE ? NONE : MASKS[Integer.numberOfTrailingZeros(category)];
+    }
+
+    /**
+     * Finds the category of an object
+     * @param gameObject the object
+     * @return the category of the object, or NONE if it is not collision filtered
+     */
+    public static int categoryOf(GameObject gameObject) {
+        return gameObject instanceof CollisionFiltered ?
+                ((CollisionFiltered) gameObject).getCollisionCategory() : NONE;
+    }
+
+    /**
+     * Checks whether two objects may collide, i.e. whether each of them is in the mask of the other
+     * @param firstCategory the category of the first object
+     * @param second the other object
+     * @return true if the objects may collide and false otherwise
+     */
+    public static boolean canCollide(int firstCategory, GameObject second) {
+        int secondCategory = categoryOf(second);
+        return (maskOf(firstCategory) & secondCategory) != 0
+                && (maskOf(secondCategory) & firstCategory) != 0;
+    }
+}
@@ -0,0 +1,14 @@
+package src.gameobjects;
+
+/**
+ * Interface of game objects which belong to a collision category, and collide only with the objects
+ * of the categories in their category's mask.
+ * @author Eliyahu Tamarkin
+ */
+public interface CollisionFiltered {
+    /**
+     * Collision category getter
+     * @return the single CollisionCategory bit of the object
+     */
+    int getCollisionCategory();
+}
@@ -0,0 +1,146 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import src.physics.SweptBodies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * The following class removes the transient objects that left the game through its bottom edge in a
+ * single pass per simulation step, instead of every object checking its own position every frame.
+ * An object left the game once it is entirely below the kill plane. The live objects of every added
+ * pool are checked, and the ones that left are removed from the game and released back to their pool
+ * in bulk. Watched objects are only reported and stay in the game, so that their owner may bring them
+ * back. Subscribers are notified of every object that crossed the kill plane.
+ * @author Eliyahu Tamarkin
+ */
+public class CullingSweep {
+
+    private final GameObjectCollection gameObjects;
+    private final SweptBodies sweptBodies;
+    private final float killPlaneY;
+    private final List<IntSupplier> poolSweeps = new ArrayList<>();
+    private final List<GameObject> watched = new ArrayList<>();
+    private final List<Consumer<GameObject>> subscribers = new ArrayList<>();
+    private long numOfCulled;
+
+    /**
+     * Constructs a new CullingSweep instance.
+     * @param gameObjects the current game's game objects
+     * @param sweptBodies the balls and obstacles of the current game, which culled objects are
+     *                    unregistered from
+     * @param killPlaneY height, in window coordinates, below which objects have left the game
+     */
+    public CullingSweep(GameObjectCollection gameObjects, SweptBodies sweptBodies, float killPlaneY) {
+        this.gameObjects = gameObjects;
+        this.sweptBodies = sweptBodies;
+        this.killPlaneY = killPlaneY;
+    }
+
+    /**
+     * Culls the live objects of a pool from the next sweep on
+     * @param pool pool whose objects are removed and released once they leave the game
+     * @param <T> type of the pooled objects
+     */
+    public <T extends GameObject & Poolable> void addPool(GameObjectPool<T> pool) {
+        Predicate<T> belowKillPlane = this::isBelowKillPlane;
+        Consumer<T> cull = this::cull;
+        poolSweeps.add(() -> pool.releaseIf(belowKillPlane, cull));
+    }
+
+    /**
+     * Reports an object which is not pooled to the subscribers whenever it is below the kill plane,
+     * without removing it from the game
+     * @param gameObject object to watch
+     */
+    public void watch(GameObject gameObject) {
+        watched.add(gameObject);
+    }
+
+    /**
+     * Stops watching an object
+     * @param gameObject an object previously passed to watch
+     */
+    public void unwatch(GameObject gameObject) {
+        watched.remove(gameObject);
+    }
+
+    /**
+     * Subscribes to objects crossing the kill plane
+     * @param subscriber called with every object found below the kill plane, before a pooled object
+     *                   is released
+     */
+    public void subscribe(Consumer<GameObject> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Unsubscribes from objects crossing the kill plane
+     * @param subscriber a subscriber previously passed to subscribe
+     */
+    public void unsubscribe(Consumer<GameObject> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Removes and releases every pooled object below the kill plane, and reports every watched object
+     * below it. Called once per simulation step, after the objects were moved.
+     * @return amount of pooled objects that were culled
+     */
+    public int sweep() {
+        int culled = 0;
+        for (IntSupplier poolSweep : poolSweeps) {
+            culled += poolSweep.getAsInt();
+        }
+        for (int i = 0; i < watched.size(); i++) {
+            GameObject gameObject = watched.get(i);
+            if (isBelowKillPlane(gameObject)) {
+                notifySubscribers(gameObject);
+            }
+        }
+        numOfCulled += culled;
+        return culled;
+    }
+
+    /**
+     * Culled objects getter
+     * @return amount of pooled objects culled since the sweep was created
+     */
+    public long getNumOfCulled() {
+        return numOfCulled;
+    }
+
+    /**
+     * Helper function checking whether an object is entirely below the kill plane
+     * @param gameObject object to check
+     * @return true if the object left the game and false otherwise
+     */
+    private boolean isBelowKillPlane(GameObject gameObject) {
+        return gameObject.getTopLeftCorner().y() > killPlaneY;
+    }
+
+    /**
+     * Helper function removing a pooled object that left the game and notifying the subscribers
+     * @param gameObject the object that left the game
+     */
+    private void cull(GameObject gameObject) {
+        gameObjects.removeGameObject(gameObject);
+        sweptBodies.unregister(gameObject);
+        notifySubscribers(gameObject);
+    }
+
+    /**
+     * Helper function notifying the subscribers of an object that crossed the kill plane
+     * @param gameObject the object that crossed the kill plane
+     */
+    private void notifySubscribers(GameObject gameObject) {
+        for (int i = 0; i < subscribers.size(); i++) {
+            subscribers.get(i).accept(gameObject);
+        }
+    }
+}
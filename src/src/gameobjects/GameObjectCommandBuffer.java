@@ -0,0 +1,186 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import src.physics.SweptBodies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The following class collects the additions and removals of game objects requested during a
+ * simulation step, and applies them to the game's objects in a single batch at the end of the step,
+ * in the order they were requested. Objects may therefore be added and removed from within collision
+ * callbacks and updates without changing the collection the engine is iterating.
+ * A removal of an object that is already waiting to be removed is ignored, so an object hit several
+ * times in the same step is removed once. A removal may carry an action performed once the object
+ * has actually left the game, such as releasing it back to its pool, so that an object is never both
+ * idle in a pool and in the game. The objects are registered with the swept bodies as they are added
+ * and unregistered as they are removed. The buffer is meant to be used by the game's thread only.
+ * @author Eliyahu Tamarkin
+ */
+public class GameObjectCommandBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final GameObjectCollection gameObjects;
+    private final SweptBodies sweptBodies;
+    private final List<GameObject> objects = new ArrayList<>(INITIAL_CAPACITY);
+    private final Set<GameObject> pendingRemovals = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int[] layers = new int[INITIAL_CAPACITY];
+    private boolean[] additions = new boolean[INITIAL_CAPACITY];
+    private Runnable[] onRemoved = new Runnable[INITIAL_CAPACITY];
+    private long applied;
+    private long ignoredRemovals;
+
+    /**
+     * Constructs a new GameObjectCommandBuffer instance.
+     * @param gameObjects the current game's game objects the commands are applied to
+     * @param sweptBodies the balls and obstacles of the current game, kept in step with the commands
+     */
+    public GameObjectCommandBuffer(GameObjectCollection gameObjects, SweptBodies sweptBodies) {
+        this.gameObjects = gameObjects;
+        this.sweptBodies = sweptBodies;
+    }
+
+    /**
+     * Requests to add an object to the default layer at the end of the step
+     * @param gameObject object to add
+     */
+    public void add(GameObject gameObject) {
+        add(gameObject, Layer.DEFAULT);
+    }
+
+    /**
+     * Requests to add an object to a layer at the end of the step
+     * @param gameObject object to add
+     * @param layer layer to add the object to
+     */
+    public void add(GameObject gameObject, int layer) {
+        pendingRemovals.remove(gameObject);
+        enqueue(gameObject, layer, true, null);
+    }
+
+    /**
+     * Requests to remove an object from the default layer at the end of the step
+     * @param gameObject object to remove
+     * @return true if the removal was queued and false if the object is already waiting to be removed
+     */
+    public boolean remove(GameObject gameObject) {
+        return remove(gameObject, Layer.DEFAULT);
+    }
+
+    /**
+     * Requests to remove an object from a layer at the end of the step
+     * @param gameObject object to remove
+     * @param layer layer to remove the object from
+     * @return true if the removal was queued and false if the object is already waiting to be removed
+     */
+    public boolean remove(GameObject gameObject, int layer) {
+        return remove(gameObject, layer, null);
+    }
+
+    /**
+     * Requests to remove an object from a layer at the end of the step, and to perform an action once
+     * it has been removed
+     * @param gameObject object to remove
+     * @param layer layer to remove the object from
+     * @param onRemoved action performed right after the object is removed from the game. Can be null.
+     * @return true if the removal was queued and false if the object is already waiting to be removed,
+     *         in which case the action is not performed
+     */
+    public boolean remove(GameObject gameObject, int layer, Runnable onRemoved) {
+        if (!pendingRemovals.add(gameObject)) {
+            ignoredRemovals++;
+            return false;
+        }
+        enqueue(gameObject, layer, false, onRemoved);
+        return true;
+    }
+
+    /**
+     * Pending removal getter
+     * @param gameObject object to check
+     * @return true if the object is waiting to be removed at the end of the step and false otherwise
+     */
+    public boolean isPendingRemoval(GameObject gameObject) {
+        return pendingRemovals.contains(gameObject);
+    }
+
+    /**
+     * Applies every pending command to the game's objects, in the order they were requested, and
+     * performs the actions of the removals. Called once per simulation step, after the objects were
+     * updated and collided.
+     * @return amount of applied commands
+     */
+    public int flush() {
+        int size = objects.size();
+        for (int i = 0; i < size; i++) {
+            if (additions[i]) {
+                gameObjects.addGameObject(objects.get(i), layers[i]);
+                sweptBodies.register(objects.get(i));
+            }
+            else {
+                gameObjects.removeGameObject(objects.get(i), layers[i]);
+                sweptBodies.unregister(objects.get(i));
+                if (onRemoved[i] != null) {
+                    onRemoved[i].run();
+                    onRemoved[i] = null;
+                }
+            }
+        }
+        objects.clear();
+        pendingRemovals.clear();
+        applied += size;
+        return size;
+    }
+
+    /**
+     * Pending commands getter
+     * @return amount of commands waiting to be applied
+     */
+    public int getPendingCount() {
+        return objects.size();
+    }
+
+    /**
+     * Applied commands getter
+     * @return amount of commands applied since the buffer was created
+     */
+    public long getAppliedCount() {
+        return applied;
+    }
+
+    /**
+     * Ignored removals getter
+     * @return amount of removals ignored since their object was already waiting to be removed
+     */
+    public long getIgnoredRemovalCount() {
+        return ignoredRemovals;
+    }
+
+    /**
+     * Helper function appending a command to the buffer
+     * @param gameObject object of the command
+     * @param layer layer of the command
+     * @param addition true for an addition and false for a removal
+     * @param onRemoved action performed once the object of a removal is removed, or null
+     */
+    private void enqueue(GameObject gameObject, int layer, boolean addition, Runnable onRemoved) {
+        int index = objects.size();
+        if (index == layers.length) {
+            layers = Arrays.copyOf(layers, index * 2);
+            additions = Arrays.copyOf(additions, index * 2);
+            this.onRemoved = Arrays.copyOf(this.onRemoved, index * 2);
+        }
+        objects.add(gameObject);
+        layers[index] = layer;
+        additions[index] = addition;
+        this.onRemoved[index] = onRemoved;
+    }
+}
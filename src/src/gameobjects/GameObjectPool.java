@@ -0,0 +1,188 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The following class is a pool of transient game objects.
+ * Objects are spawned from the pool and released back to it once they leave the game, instead of
+ * being thrown away and constructed again on the next spawn. A released object has its state reset
+ * before it is kept for reuse.
+ * The amount of live objects is capped. The cap in effect may be tightened below the pool's maximum,
+ * e.g. while the game sheds load, and every spawn refused by the cap is counted.
+ * @param <T> type of the pooled objects
+ * @author Eliyahu Tamarkin
+ */
+public class GameObjectPool<T extends GameObject & Poolable> {
+
+    private final Function<GameObjectPool<T>, T> factory;
+    private final int maxLive;
+    private final int maxIdle;
+    private int liveCap;
+    private long refusedSpawns;
+    private final ArrayDeque<T> idle = new ArrayDeque<>();
+    private final Set<T> live = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Constructs a new GameObjectPool instance.
+     * @param factory creates a new object, which is given the pool it belongs to, whenever there is no
+     *                idle object to reuse
+     * @param maxLive maximal amount of objects that may be spawned at the same time
+     * @param maxIdle maximal amount of released objects kept for reuse
+     */
+    public GameObjectPool(Function<GameObjectPool<T>, T> factory, int maxLive, int maxIdle) {
+        if (maxLive <= 0 || maxIdle < 0) {
+            throw new IllegalArgumentException("maxLive must be positive and maxIdle non negative");
+        }
+        this.factory = factory;
+        this.maxLive = maxLive;
+        this.liveCap = maxLive;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Spawns an object, reusing an idle one when possible.
+     * The caller is in charge of positioning the object and adding it to the game.
+     * @return the spawned object, or null in case the live objects cap in effect was reached
+     */
+    public T spawn() {
+        if (live.size() >= liveCap) {
+            refusedSpawns++;
+            return null;
+        }
+        T object = idle.poll();
+        if (object == null) {
+            object = factory.apply(this);
+        }
+        live.add(object);
+        return object;
+    }
+
+    /**
+     * Releases a spawned object back to the pool. The caller is in charge of removing the object from
+     * the game. Releasing an object which is not live has no effect.
+     * @param object object to release
+     * @return true if the object was live and has been released and false otherwise
+     */
+    public boolean release(T object) {
+        if (!live.remove(object)) {
+            return false;
+        }
+        object.resetState();
+        if (idle.size() < maxIdle) {
+            idle.push(object);
+        }
+        return true;
+    }
+
+    /**
+     * Performs an action on every object that is currently spawned. The action may release the object.
+     * @param action action to perform
+     */
+    public void forEachLive(Consumer<? super T> action) {
+        for (T object : new ArrayList<>(live)) {
+            action.accept(object);
+        }
+    }
+
+    /**
+     * Releases every spawned object that matches a condition in a single pass over the live objects,
+     * without copying them. The action is performed on every such object before its state is reset,
+     * and must neither spawn nor release objects of this pool.
+     * @param condition condition of the objects to release
+     * @param onRelease action to perform on every released object, such as removing it from the game
+     * @return amount of released objects
+     */
+    public int releaseIf(Predicate<? super T> condition, Consumer<? super T> onRelease) {
+        int released = 0;
+        Iterator<T> iterator = live.iterator();
+        while (iterator.hasNext()) {
+            T object = iterator.next();
+            if (!condition.test(object)) {
+                continue;
+            }
+            iterator.remove();
+            onRelease.accept(object);
+            object.resetState();
+            if (idle.size() < maxIdle) {
+                idle.push(object);
+            }
+            released++;
+        }
+        return released;
+    }
+
+    /**
+     * Live objects getter
+     * @return amount of objects that are currently spawned
+     */
+    public int getLiveCount() {
+        return live.size();
+    }
+
+    /**
+     * Idle objects getter
+     * @return amount of released objects waiting to be reused
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Live cap getter
+     * @return maximal amount of objects that may be spawned at the same time
+     */
+    public int getMaxLive() {
+        return maxLive;
+    }
+
+    /**
+     * Sets the cap of live objects in effect. Objects that are already live are not released when the
+     * cap is tightened below their amount, but no more objects are spawned until enough of them are.
+     * @param liveCap the cap in effect, between zero and the pool's maximal amount of live objects
+     */
+    public void setLiveCap(int liveCap) {
+        if (liveCap < 0 || liveCap > maxLive) {
+            throw new IllegalArgumentException("liveCap must be between 0 and maxLive");
+        }
+        this.liveCap = liveCap;
+    }
+
+    /**
+     * Live cap in effect getter
+     * @return the cap of live objects in effect
+     */
+    public int getLiveCap() {
+        return liveCap;
+    }
+
+    /**
+     * Refused spawns getter
+     * @return amount of spawns refused since the cap of live objects in effect was reached
+     */
+    public long getRefusedSpawns() {
+        return refusedSpawns;
+    }
+
+    /**
+     * Idle cap getter
+     * @return maximal amount of released objects kept for reuse
+     */
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("live=%d/%d idle=%d/%d", live.size(), liveCap, idle.size(), maxIdle);
+    }
+}
@@ -1,16 +1,17 @@
 package src.gameobjects;
 
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.gui.WindowController;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.profiling.PerformanceMonitor;
+import src.utils.ObservableCounter;
 
 /**
  * The following class represents the graphical life counter for the amount of tries remaining in the
  * bricker game.
+ * The displayed hearts are updated only when the amount of lives changes.
  * @author Eliyahu Tamarkin
  */
 public class GraphicLifeCounter extends GameObject {
@@ -19,10 +20,11 @@ public class GraphicLifeCounter extends GameObject {
     private static final int MAX_HEARTS_AMOUNT = 4;
     private final Heart[] hearts;
     private final Counter livesCounter;
-    private final GameObjectCollection gameObjectCollection;
+    private final Vector2 widgetTopLeftCorner;
+    private final GameObjectCommandBuffer commandBuffer;
     private final Vector2 widgetDimensions;
     private final Renderable widgetRenderable;
-    private final WindowController windowController;
+    private final PerformanceMonitor performanceMonitor;
     private int numOfLives;
 
     /**
@@ -34,19 +36,19 @@ public class GraphicLifeCounter extends GameObject {
      * @param livesCounter         lives counter representing the updated number of lives
      * @param widgetRenderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
-     * @param gameObjectCollection the collection of the objects in the game to be used for adding or
-     *                             removing objects
+     * @param commandBuffer        buffer the hearts are added to and removed from the game through
      * @param numOfLives           initial number of lives to be added to the game
-     * @param windowController     Window controller to be used when instantiating new Heart instances
+     * @param performanceMonitor   monitor the hearts of the counter are measured with
      */
     public GraphicLifeCounter(Vector2 widgetTopLeftCorner, Vector2 widgetDimensions,
-                              Counter livesCounter, Renderable widgetRenderable,
-                              GameObjectCollection gameObjectCollection, int numOfLives,
-                              WindowController windowController) {
+                              ObservableCounter livesCounter, Renderable widgetRenderable,
+                              GameObjectCommandBuffer commandBuffer, int numOfLives,
+                              PerformanceMonitor performanceMonitor) {
         super(widgetTopLeftCorner, widgetDimensions, widgetRenderable);
         this.livesCounter = livesCounter;
-        this.windowController = windowController;
-        this.gameObjectCollection = gameObjectCollection;
+        this.widgetTopLeftCorner = widgetTopLeftCorner;
+        this.performanceMonitor = performanceMonitor;
+        this.commandBuffer = commandBuffer;
         this.widgetDimensions = widgetDimensions;
         this.widgetRenderable = widgetRenderable;
         this.numOfLives = numOfLives;
@@ -54,29 +56,24 @@ public class GraphicLifeCounter extends GameObject {
         Vector2 heartPosition = widgetTopLeftCorner;
         for(int i = 0; i < numOfLives; i++){
             Heart heart = new Heart(heartPosition, widgetDimensions, widgetRenderable,
-                    windowController, gameObjectCollection, livesCounter);
-            gameObjectCollection.addGameObject(heart, Layer.UI);
+                    commandBuffer, livesCounter, performanceMonitor);
+            heart.setCollisionCategory(CollisionCategory.UI);
+            commandBuffer.add(heart, Layer.UI);
             this.hearts[i] = heart;
             heartPosition = heartPosition.add(HEART_SHIFT);
         }
+        livesCounter.subscribe(this::onLivesChanged);
     }
 
     /**
-     * updates the number of lives displayed according to the value of the counter
-     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
-     *                  be used to determine a new position/velocity by multiplying
-     *                  this delta with the velocity/acceleration respectively
-     *                  and adding to the position/velocity:
-     *                  velocity += deltaTime*acceleration
-     *                  pos += deltaTime*velocity
+     * updates the number of lives displayed according to the updated value of the counter
+     * @param updatedNumOfLives the updated amount of lives
      */
-    @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        if(livesCounter.value() < numOfLives){
+    private void onLivesChanged(int updatedNumOfLives) {
+        while(updatedNumOfLives < numOfLives && numOfLives > 0){
             removeHeart();
         }
-        else if(livesCounter.value() > numOfLives && numOfLives < MAX_HEARTS_AMOUNT){
+        while(updatedNumOfLives > numOfLives && numOfLives < MAX_HEARTS_AMOUNT){
             addNewHeart();
         }
     }
@@ -86,17 +83,19 @@ public class GraphicLifeCounter extends GameObject {
      */
     private void removeHeart(){
         numOfLives--;
-        gameObjectCollection.removeGameObject(hearts[numOfLives], Layer.UI);
+        commandBuffer.remove(hearts[numOfLives], Layer.UI);
     }
 
     /**
      * Adds a heart to the counter
      */
     private void addNewHeart(){
-        Vector2 heartPosition = hearts[numOfLives - 1].getTopLeftCorner().add(HEART_SHIFT);
+        Vector2 heartPosition = numOfLives == 0 ? widgetTopLeftCorner :
+                hearts[numOfLives - 1].getTopLeftCorner().add(HEART_SHIFT);
         Heart newHeart = new Heart(heartPosition, this.widgetDimensions, widgetRenderable,
-                windowController, gameObjectCollection, livesCounter);
-        gameObjectCollection.addGameObject(newHeart, Layer.UI);
+                commandBuffer, livesCounter, performanceMonitor);
+        newHeart.setCollisionCategory(CollisionCategory.UI);
+        commandBuffer.add(newHeart, Layer.UI);
         hearts[numOfLives] = newHeart;
         numOfLives++;
     }
@@ -2,58 +2,102 @@ package src.gameobjects;
 
 import danogl.GameObject;
 import danogl.collisions.Collision;
-import danogl.collisions.GameObjectCollection;
-import danogl.gui.WindowController;
+import danogl.collisions.Layer;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.profiling.PerformanceMonitor;
 
 /**
  * Heart class in charge of representing heart objects at the game
  * @author Eliyahu Tamarkin
  */
-public class Heart extends GameObject {
+public class Heart extends GameObject implements Poolable, CollisionFiltered {
 
     private static final int MAX_HEARTS = 4;
-    private final WindowController windowController;
-    private final GameObjectCollection gameObjects;
+    private final GameObjectCommandBuffer commandBuffer;
     private final Counter livesCounter;
+    private final Runnable releaseToPool;
+    private final PerformanceMonitor performanceMonitor;
+    private int collisionCategory = CollisionCategory.HEART;
 
     /**
-     * Constructs a new GameObject instance.
+     * Constructs a new Heart instance which is discarded once it leaves the game.
      *
      * @param topLeftCorner Position of the object, in window coordinates (pixels).
      *                      Note that (0,0) is the top-left corner of the window.
      * @param dimensions    Width and height in window coordinates.
      * @param renderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
-     * @param windowController window controller of the game
-     * @param gameObjects the current game's game objects
+     * @param commandBuffer buffer the heart removes itself from the game through
      * @param livesCounter current live counter of the game
+     * @param performanceMonitor monitor the heart's collisions are measured with
      */
     public Heart(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                 WindowController windowController, GameObjectCollection gameObjects,
-                 Counter livesCounter) {
+                 GameObjectCommandBuffer commandBuffer, Counter livesCounter,
+                 PerformanceMonitor performanceMonitor) {
+        this(topLeftCorner, dimensions, renderable, commandBuffer, livesCounter, null,
+                performanceMonitor);
+    }
+
+    /**
+     * Constructs a new Heart instance.
+     *
+     * @param topLeftCorner Position of the object, in window coordinates (pixels).
+     *                      Note that (0,0) is the top-left corner of the window.
+     * @param dimensions    Width and height in window coordinates.
+     * @param renderable    The renderable representing the object. Can be null, in which case
+     *                      the GameObject will not be rendered.
+     * @param commandBuffer buffer the heart removes itself from the game through
+     * @param livesCounter current live counter of the game
+     * @param pool pool the heart is released to once it has been removed from the game. Can be null, in
+     *             which case the heart is simply discarded
+     * @param performanceMonitor monitor the heart's collisions are measured with
+     */
+    public Heart(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                 GameObjectCommandBuffer commandBuffer, Counter livesCounter,
+                 GameObjectPool<Heart> pool, PerformanceMonitor performanceMonitor) {
         super(topLeftCorner, dimensions, renderable);
-        this.windowController = windowController;
-        this.gameObjects = gameObjects;
+        this.commandBuffer = commandBuffer;
         this.livesCounter = livesCounter;
+        this.releaseToPool = pool == null ? null : () -> pool.release(this);
+        this.performanceMonitor = performanceMonitor;
     }
 
     /**
      * Determines which object the heart should collide with, in ther case we would only want to collide
-     * with the main paddle of the game.
+     * with the main paddle of the game, which is the only category in the heart's collision mask.
+     * Hearts of the user interface collide with nothing.
      * @param other The other GameObject to be collided with
      * @return true in case it should collide and false otherwise
      */
     @Override
     public boolean shouldCollideWith(GameObject other) {
-        return other instanceof Paddle && !(other instanceof SecondaryPaddle);
+        return CollisionCategory.canCollide(collisionCategory, other);
+    }
+
+    /**
+     * Collision category getter
+     * @return CollisionCategory.HEART for falling hearts and CollisionCategory.UI for the hearts of the
+     * user interface
+     */
+    @Override
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * Collision category setter
+     * @param collisionCategory the heart's collision category
+     */
+    void setCollisionCategory(int collisionCategory) {
+        this.collisionCategory = collisionCategory;
     }
 
     /**
      * Determines whether a heart that has collided with the paddle (since it is the only object it
-     * may collide with) should increase the counter or not based upon the maximum amount of lives.
+     * may collide with) should increase the counter or not based upon the maximum amount of lives. A
+     * heart that is already being removed is not counted again.
      * @param other The GameObject with which a collision occurred.
      * @param collision Information regarding this collision.
      *                  A reasonable elastic behavior can be achieved with:
@@ -61,27 +105,28 @@ public class Heart extends GameObject {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
+        long start = performanceMonitor.start();
         super.onCollisionEnter(other, collision);
-        if(livesCounter.value() < MAX_HEARTS){
+        if(livesCounter.value() < MAX_HEARTS && despawn()){
             livesCounter.increment();
-            gameObjects.removeGameObject(this);
         }
+        performanceMonitor.recordCollision(this, start);
     }
 
     /**
-     * Removes the heart whenever it is out of the screen's coordinates
-     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
-     *                  be used to determine a new position/velocity by multiplying
-     *                  this delta with the velocity/acceleration respectively
-     *                  and adding to the position/velocity:
-     *                  velocity += deltaTime*acceleration
-     *                  pos += deltaTime*velocity
+     * Resets the velocity of the heart before it is reused
      */
     @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        if (this.getTopLeftCorner().y() > windowController.getWindowDimensions().y()){
-            gameObjects.removeGameObject(this);
-        }
+    public void resetState() {
+        setVelocity(Vector2.ZERO);
+    }
+
+    /**
+     * Removes the heart from the game at the end of the step, and releases it to its pool if it has one
+     * once it has been removed
+     * @return true if the heart's removal was requested and false if it is already being removed
+     */
+    private boolean despawn(){
+        return commandBuffer.remove(this, Layer.DEFAULT, releaseToPool);
     }
 }
@@ -0,0 +1,16 @@
+package src.gameobjects;
+
+/**
+ * Interface of game objects which are drawn between their last two simulated positions.
+ * The game simulates at a fixed tick rate that may differ from the rate it is drawn at, so a frame is
+ * usually drawn some time after the last simulation step. Interpolated objects are drawn at the
+ * position they would have reached by then.
+ * @author Eliyahu Tamarkin
+ */
+public interface Interpolated {
+    /**
+     * Sets the point between the last two simulated positions the object is drawn at
+     * @param alpha fraction of a simulation step that passed since the last step, between 0 and 1
+     */
+    void interpolate(float alpha);
+}
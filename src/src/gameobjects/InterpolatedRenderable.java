@@ -0,0 +1,76 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.Graphics2D;
+
+/**
+ * The following class draws the renderable of a game object between the position the object had at
+ * the start of its last simulation step and its current position.
+ * An object which moved more than its own size in a single step is considered to have been placed
+ * rather than moved there, and is drawn at its current position.
+ * @author Eliyahu Tamarkin
+ */
+class InterpolatedRenderable implements Renderable {
+
+    private final GameObject owner;
+    private final Renderable renderable;
+    private Vector2 stepStart;
+    private Vector2 offset = Vector2.ZERO;
+
+    /**
+     * Constructs a new InterpolatedRenderable instance.
+     * @param owner the drawn game object
+     * @param renderable the renderable of the object
+     */
+    InterpolatedRenderable(GameObject owner, Renderable renderable) {
+        this.owner = owner;
+        this.renderable = renderable;
+    }
+
+    /**
+     * Saves the position of the object at the start of a simulation step
+     */
+    void saveStepStart() {
+        stepStart = owner.getTopLeftCorner();
+    }
+
+    /**
+     * Sets the point between the last two simulated positions the object is drawn at
+     * @param alpha fraction of a simulation step that passed since the last step, between 0 and 1
+     */
+    void interpolate(float alpha) {
+        offset = Vector2.ZERO;
+        if (stepStart == null) {
+            return;
+        }
+        Vector2 moved = owner.getTopLeftCorner().subtract(stepStart);
+        Vector2 dimensions = owner.getDimensions();
+        if (Math.abs(moved.x()) > dimensions.x() || Math.abs(moved.y()) > dimensions.y()) {
+            return;
+        }
+        offset = moved.mult(alpha - 1);
+    }
+
+    @Override
+    public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                       double degreesCounterClockwise, boolean isFlippedHorizontally,
+                       boolean isFlippedVertically, double opaqueness) {
+        Vector2 ownerDimensions = owner.getDimensions();
+        Vector2 drawnCorner = topLeftCorner;
+        if (ownerDimensions.x() > 0 && ownerDimensions.y() > 0) {
+            drawnCorner = topLeftCorner.add(new Vector2(
+                    offset.x() * dimensions.x() / ownerDimensions.x(),
+                    offset.y() * dimensions.y() / ownerDimensions.y()));
+        }
+        renderable.render(g, drawnCorner, dimensions, degreesCounterClockwise, isFlippedHorizontally,
+                isFlippedVertically, opaqueness);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        renderable.update(deltaTime);
+    }
+}
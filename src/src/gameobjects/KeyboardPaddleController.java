@@ -0,0 +1,40 @@
+package src.gameobjects;
+
+import danogl.gui.UserInputListener;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * The following class moves a paddle according to the left and right arrow keys pressed by the user.
+ * @author Eliyahu Tamarkin
+ */
+public class KeyboardPaddleController implements PaddleController {
+
+    private final UserInputListener inputListener;
+
+    /**
+     * Constructs a new KeyboardPaddleController instance.
+     * @param inputListener input listener to listen to the users key requests
+     */
+    public KeyboardPaddleController(UserInputListener inputListener) {
+        this.inputListener = inputListener;
+    }
+
+    /**
+     * Moves the paddle towards the arrow key pressed, or keeps it in place if both or neither are
+     * pressed
+     * @param paddle the controlled paddle
+     * @return the direction of the pressed arrow key
+     */
+    @Override
+    public int getMovementDirection(Paddle paddle) {
+        int direction = 0;
+        if (inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
+            direction--;
+        }
+        if (inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
+            direction++;
+        }
+        return direction;
+    }
+}
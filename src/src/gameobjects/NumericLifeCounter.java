@@ -3,21 +3,22 @@ package src.gameobjects;
 import danogl.GameObject;
 import danogl.gui.WindowController;
 import danogl.gui.rendering.TextRenderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
+import src.utils.ObservableCounter;
 
 import java.awt.*;
 
 /**
  * The following class represents the numerical life counter for the amount of tries remaining in the
  * bricker game.
+ * The counter is refreshed only when the amount of lives changes, so a frame in which no life was
+ * lost or gained costs it nothing.
  * @author Eliyahu Tamarkin
  */
 public class NumericLifeCounter extends GameObject {
 
     private static final int MEDIUM_HEARTS = 2;
     private static final int LOW_HEARTS = 1;
-    private final Counter livesCounter;
     private final TextRenderable textRenderable;
     private final WindowController windowController;
     private final Vector2 heartDimensions;
@@ -33,48 +34,42 @@ public class NumericLifeCounter extends GameObject {
      * @param windowController window controller of the game
      * @param heartDimensions the dimensions of the heart object
      */
-    public NumericLifeCounter(Counter livesCounter, Vector2 topLeftCorner, Vector2 dimensions,
+    public NumericLifeCounter(ObservableCounter livesCounter, Vector2 topLeftCorner, Vector2 dimensions,
                               WindowController windowController, Vector2 heartDimensions) {
         super(topLeftCorner, dimensions, null);
-        this.livesCounter = livesCounter;
         this.windowController = windowController;
         this.heartDimensions = heartDimensions;
         this.textRenderable = new TextRenderable(String.valueOf(livesCounter.value()));
-        this.textRenderable.setColor(Color.GREEN);
         this.renderer().setRenderable(textRenderable);
+        refresh(livesCounter.value());
+        livesCounter.subscribe(this::refresh);
     }
 
     /**
-     * updates the number and the color of according to the value of the counter
-     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
-     *                  be used to determine a new position/velocity by multiplying
-     *                  this delta with the velocity/acceleration respectively
-     *                  and adding to the position/velocity:
-     *                  velocity += deltaTime*acceleration
-     *                  pos += deltaTime*velocity
+     * updates the number, the color and the position of the counter according to the amount of lives
+     * @param numOfLives the updated amount of lives
      */
-    @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        textRenderable.setString(String.valueOf(livesCounter.value()));
-        if (livesCounter.value() == MEDIUM_HEARTS){
+    private void refresh(int numOfLives) {
+        textRenderable.setString(String.valueOf(numOfLives));
+        if (numOfLives == MEDIUM_HEARTS){
             textRenderable.setColor(Color.YELLOW);
         }
-        else if(livesCounter.value() == LOW_HEARTS){
+        else if(numOfLives == LOW_HEARTS){
             textRenderable.setColor(Color.RED);
         }
         else {
             textRenderable.setColor(Color.GREEN);
         }
-        this.setTopLeftCorner(getNumericPosition());
+        this.setTopLeftCorner(getNumericPosition(numOfLives));
     }
 
     /**
      * Moves the numeric counter according to the amount of hearts currently in the game.
+     * @param numOfLives the updated amount of lives
      * @return the updated position of the numeric counter.
      */
-    private Vector2 getNumericPosition(){
-        return new Vector2(heartDimensions.x() * livesCounter.value() +
-                5 * livesCounter.value(), windowController.getWindowDimensions().y() - 30);
+    private Vector2 getNumericPosition(int numOfLives){
+        return new Vector2(heartDimensions.x() * numOfLives +
+                5 * numOfLives, windowController.getWindowDimensions().y() - 30);
     }
 }
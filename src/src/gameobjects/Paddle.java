@@ -4,19 +4,23 @@ import danogl.GameObject;
 import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
-
-import java.awt.event.KeyEvent;
+import src.physics.Sweep;
+import src.physics.SweepHit;
+import src.physics.SweptObstacle;
+import src.profiling.PerformanceMonitor;
 
 /**
  * The following class represents the paddle of the bricker game.
  * @author Eliyahu Tamarkin
  */
-public class Paddle extends GameObject {
+public class Paddle extends GameObject implements Interpolated, SweptObstacle, CollisionFiltered {
 
     private static final float MOVEMENT_SPEED = 300;
-    private final UserInputListener inputListener;
+    private final PaddleController controller;
     private final Vector2 windowDimensions;
     private final int minDistFromEdge;
+    private final InterpolatedRenderable interpolatedRenderable;
+    private final PerformanceMonitor performanceMonitor;
 
     /**
      * Constructs a new Paddle instance.
@@ -29,17 +33,77 @@ public class Paddle extends GameObject {
      * @param inputListener input listener to listen to the users key requests
      * @param windowDimensions window dimensions of the game
      * @param minDistFromEdge minimal distance allowed to be from the games left and right borders
+     * @param performanceMonitor monitor the paddle's updates are measured with
+     */
+    public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                  UserInputListener inputListener, Vector2 windowDimensions, int minDistFromEdge,
+                  PerformanceMonitor performanceMonitor) {
+        this(topLeftCorner, dimensions, renderable, new KeyboardPaddleController(inputListener),
+                windowDimensions, minDistFromEdge, performanceMonitor);
+    }
+
+    /**
+     * Constructs a new Paddle instance moved by a given controller.
+     *
+     * @param topLeftCorner Position of the object, in window coordinates (pixels).
+     *                      Note that (0,0) is the top-left corner of the window.
+     * @param dimensions    Width and height in window coordinates.
+     * @param renderable    The renderable representing the object. Can be null, in which case
+     *                      the GameObject will not be rendered.
+     * @param controller    controller deciding where the paddle moves
+     * @param windowDimensions window dimensions of the game
+     * @param minDistFromEdge minimal distance allowed to be from the games left and right borders
+     * @param performanceMonitor monitor the paddle's updates are measured with
      */
     public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                  UserInputListener inputListener, Vector2 windowDimensions, int minDistFromEdge) {
+                  PaddleController controller, Vector2 windowDimensions, int minDistFromEdge,
+                  PerformanceMonitor performanceMonitor) {
         super(topLeftCorner, dimensions, renderable);
-        this.inputListener = inputListener;
+        this.performanceMonitor = performanceMonitor;
+        this.controller = controller;
         this.windowDimensions = windowDimensions;
         this.minDistFromEdge = minDistFromEdge;
+        this.interpolatedRenderable = renderable == null ? null :
+                new InterpolatedRenderable(this, renderable);
+        if (interpolatedRenderable != null) {
+            renderer().setRenderable(interpolatedRenderable);
+        }
+    }
+
+    /**
+     * Sweeps a moving box against the paddle
+     * @param mover the moving object, whose box is swept from its current position
+     * @param displacement the movement of the box over the sweep
+     * @param hit the earliest impact found so far
+     */
+    @Override
+    public void sweep(GameObject mover, Vector2 displacement, SweepHit hit) {
+        Sweep.sweepBox(mover, displacement, getTopLeftCorner(), getDimensions(), hit, this,
+                SweepHit.NO_CELL);
+    }
+
+    /**
+     * The paddle has no behaviour of its own upon being hit
+     * @param mover the moving object
+     * @param hit the impact
+     */
+    @Override
+    public void onSweptHit(GameObject mover, SweepHit hit) {
     }
 
     /**
-     * updates the paddle's position according to the key pressed taking in account the minimal distance
+     * Draws the paddle between its last two simulated positions
+     * @param alpha fraction of a simulation step that passed since the last step, between 0 and 1
+     */
+    @Override
+    public void interpolate(float alpha) {
+        if (interpolatedRenderable != null) {
+            interpolatedRenderable.interpolate(alpha);
+        }
+    }
+
+    /**
+     * updates the paddle's position according to its controller taking in account the minimal distance
      * from the edge that was set
      * @param deltaTime The time elapsed, in seconds, since the last frame. Can
      *                  be used to determine a new position/velocity by multiplying
@@ -50,15 +114,12 @@ public class Paddle extends GameObject {
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
-        Vector2 movementDir = Vector2.ZERO;
-        if(inputListener.isKeyPressed(KeyEvent.VK_LEFT)){
-            movementDir = movementDir.add(Vector2.LEFT);
-        }
-        if(inputListener.isKeyPressed(KeyEvent.VK_RIGHT)){
-            movementDir = movementDir.add(Vector2.RIGHT);
+        long start = performanceMonitor.start();
+        if (interpolatedRenderable != null) {
+            interpolatedRenderable.saveStepStart();
         }
-        setVelocity(movementDir.mult(MOVEMENT_SPEED));
+        super.update(deltaTime);
+        setVelocity(Vector2.RIGHT.mult(controller.getMovementDirection(this) * MOVEMENT_SPEED));
 
         float maxXPosition = windowDimensions.x() - minDistFromEdge - getDimensions().x();
         if (getTopLeftCorner().x() < minDistFromEdge){
@@ -67,5 +128,25 @@ public class Paddle extends GameObject {
         else if (getTopLeftCorner().x() > maxXPosition){
             transform().setTopLeftCornerX(maxXPosition);
         }
+        performanceMonitor.recordUpdate(this, start);
+    }
+
+    /**
+     * Rejects the objects the paddle may not collide with before the engine tests their shapes
+     * @param other The other GameObject
+     * @return true if the objects' collision categories may collide and false otherwise
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionCategory.canCollide(getCollisionCategory(), other);
+    }
+
+    /**
+     * Collision category getter
+     * @return CollisionCategory.PADDLE
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.PADDLE;
     }
 }
@@ -0,0 +1,14 @@
+package src.gameobjects;
+
+/**
+ * Interface of the controllers deciding where the paddles of the game move.
+ * @author Eliyahu Tamarkin
+ */
+public interface PaddleController {
+    /**
+     * Decides the direction a paddle moves in during the next step
+     * @param paddle the controlled paddle
+     * @return -1 to move the paddle left, 1 to move it right and 0 to keep it in place
+     */
+    int getMovementDirection(Paddle paddle);
+}
@@ -0,0 +1,13 @@
+package src.gameobjects;
+
+/**
+ * Interface of game objects that can be recycled by a GameObjectPool.
+ * @author Eliyahu Tamarkin
+ */
+public interface Poolable {
+    /**
+     * Resets the object back to the state it had right after construction, so that it can be spawned
+     * again.
+     */
+    void resetState();
+}
@@ -1,18 +1,16 @@
 package src.gameobjects;
 
-import danogl.collisions.GameObjectCollection;
 import danogl.gui.Sound;
-import danogl.gui.WindowController;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
+import src.audio.AudioDispatcher;
+import src.profiling.PerformanceMonitor;
 
 /**
  * Puck Ball class which is in charge of representing the puck balls of the game
  * @author Eliyahu Tamarkin
  */
-public class PuckBall extends Ball{
-    private final WindowController windowController;
-    private final GameObjectCollection gameObjects;
+public class PuckBall extends Ball implements Poolable{
 
     /**
      * Constructs a new PuckBall instance.
@@ -23,29 +21,32 @@ public class PuckBall extends Ball{
      * @param renderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
      * @param sound         The sound the ball makes upon collision with other objects
-     * @param windowController game window controller
+     * @param audioDispatcher dispatcher the collision sound is played through
+     * @param soundPriority priority of the ball's collision sound over other balls sharing it
+     * @param performanceMonitor monitor the puck ball's collisions are measured with
      */
     public PuckBall(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound sound,
-                    WindowController windowController, GameObjectCollection gameObjects) {
-        super(topLeftCorner, dimensions, renderable, sound);
-        this.windowController = windowController;
-        this.gameObjects = gameObjects;
+                    AudioDispatcher audioDispatcher, int soundPriority,
+                    PerformanceMonitor performanceMonitor) {
+        super(topLeftCorner, dimensions, renderable, sound, audioDispatcher, soundPriority,
+                performanceMonitor);
     }
 
     /**
-     * In charge of removing the puck ball from the game whenever it is out of the screen
-     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
-     *                  be used to determine a new position/velocity by multiplying
-     *                  this delta with the velocity/acceleration respectively
-     *                  and adding to the position/velocity:
-     *                  velocity += deltaTime*acceleration
-     *                  pos += deltaTime*velocity
+     * Resets the velocity and collision count of the puck ball before it is reused
      */
     @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        if(this.getTopLeftCorner().y() > windowController.getWindowDimensions().y()){
-            gameObjects.removeGameObject(this);
-        }
+    public void resetState() {
+        setVelocity(Vector2.ZERO);
+        resetCollisionCount();
+    }
+
+    /**
+     * Collision category getter
+     * @return CollisionCategory.PUCK
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.PUCK;
     }
 }
@@ -1,18 +1,15 @@
 package src.gameobjects;
 
 import danogl.GameObject;
-import danogl.collisions.Collision;
-import danogl.collisions.GameObjectCollection;
-import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
+import src.effects.EffectScheduler;
+import src.physics.SweepHit;
+import src.profiling.PerformanceMonitor;
 
 public class SecondaryPaddle extends Paddle{
 
-    public static int numOfInstances = 0;
-    private static final int MAX_HIT_COUNT = 3;
-    private int hitCount;
-    private final GameObjectCollection gameObjects;
+    private final EffectScheduler effectScheduler;
 
     /**
      * Constructs a new SecondaryPaddle instance.
@@ -22,35 +19,39 @@ public class SecondaryPaddle extends Paddle{
      * @param dimensions       Width and height in window coordinates.
      * @param renderable       The renderable representing the object. Can be null, in which case
      *                         the GameObject will not be rendered.
-     * @param inputListener    input listener to listen to the users key requests
+     * @param controller       controller deciding where the paddle moves
      * @param windowDimensions window dimensions of the game
      * @param minDistFromEdge  minimal distance allowed to be from the games left and right borders
+     * @param effectScheduler  scheduler the hits of the paddle are reported to, so that the paddle
+     *                         may expire after a number of hits
+     * @param performanceMonitor monitor the paddle's updates and collisions are measured with
      */
     public SecondaryPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                           UserInputListener inputListener, Vector2 windowDimensions,
-                           int minDistFromEdge, GameObjectCollection gameObjects) {
-        super(topLeftCorner, dimensions, renderable, inputListener, windowDimensions, minDistFromEdge);
-        this.hitCount = 0;
-        this.gameObjects = gameObjects;
-        SecondaryPaddle.numOfInstances++;
+                           PaddleController controller, Vector2 windowDimensions,
+                           int minDistFromEdge, EffectScheduler effectScheduler,
+                           PerformanceMonitor performanceMonitor) {
+        super(topLeftCorner, dimensions, renderable, controller, windowDimensions, minDistFromEdge,
+                performanceMonitor);
+        this.effectScheduler = effectScheduler;
     }
 
     /**
-     * Updates the hit count of the given paddle and destroys when the maximal hit amount was met
-     * @param other The GameObject with which a collision occurred.
-     * @param collision Information regarding this collision.
-     *                  A reasonable elastic behavior can be achieved with:
-     *                  setVelocity(getVelocity().flipped(collision.getNormal()));
+     * Reports the hit of the paddle to the effect scheduler when a ball has been swept into it
+     * @param mover the moving object
+     * @param hit the impact
      */
     @Override
-    public void onCollisionEnter(GameObject other, Collision collision) {
-        super.onCollisionEnter(other, collision);
-        if (other instanceof Ball){
-            hitCount++;
-        }
-        if(hitCount >= MAX_HIT_COUNT){
-            this.gameObjects.removeGameObject(this);
-            numOfInstances--;
-        }
+    public void onSweptHit(GameObject mover, SweepHit hit) {
+        super.onSweptHit(mover, hit);
+        effectScheduler.recordHit(this);
+    }
+
+    /**
+     * Collision category getter
+     * @return CollisionCategory.BOT_PADDLE
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.BOT_PADDLE;
     }
 }
@@ -0,0 +1,41 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * The following class represents a wall of the window, which the balls bounce off.
+ * @author Eliyahu Tamarkin
+ */
+public class Wall extends GameObject implements CollisionFiltered {
+
+    /**
+     * Constructs a new Wall instance.
+     *
+     * @param topLeftCorner Position of the object, in window coordinates (pixels).
+     *                      Note that (0,0) is the top-left corner of the window.
+     * @param dimensions    Width and height in window coordinates.
+     */
+    public Wall(Vector2 topLeftCorner, Vector2 dimensions) {
+        super(topLeftCorner, dimensions, null);
+    }
+
+    /**
+     * Rejects the objects the wall may not collide with before the engine tests their shapes
+     * @param other The other GameObject
+     * @return true if the objects' collision categories may collide and false otherwise
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionCategory.canCollide(CollisionCategory.WALL, other);
+    }
+
+    /**
+     * Collision category getter
+     * @return CollisionCategory.WALL
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.WALL;
+    }
+}
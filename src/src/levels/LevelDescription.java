@@ -0,0 +1,240 @@
+package src.levels;
+
+import danogl.util.Vector2;
+import src.brick_strategies.CollisionStrategyFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * The following class describes a level of the bricker game: the window it is played in, the grid
+ * the bricks are laid out on and the mix of strategies the bricks are given.
+ * A level can be read from a properties file holding the following keys, all of which are optional
+ * and default to the original level of the game:
+ * windowWidth, windowHeight, rows, columns, originX, originY, brickWidth, brickHeight, cellWidth,
+ * cellHeight, seed and strategyWeights. The strategy weights are six comma separated relative weights
+ * of the regular, puck balls, additional paddle, camera change, heart creation and double strategies.
+ * @author Eliyahu Tamarkin
+ */
+public class LevelDescription {
+
+    private static final Vector2 DEFAULT_WINDOW_DIMENSIONS = new Vector2(700, 500);
+    private static final int DEFAULT_ROWS = 8;
+    private static final int DEFAULT_COLUMNS = 7;
+    private static final Vector2 DEFAULT_ORIGIN = new Vector2(20, 5);
+    private static final Vector2 DEFAULT_BRICK_DIMENSIONS = new Vector2(90, 20);
+    private static final Vector2 DEFAULT_CELL_DIMENSIONS = new Vector2(95, 20);
+    private static final int[] DEFAULT_STRATEGY_WEIGHTS = {1, 1, 1, 1, 1, 1};
+    private static final String WEIGHTS_SEPARATOR = ",";
+
+    private final Vector2 windowDimensions;
+    private final int rows;
+    private final int columns;
+    private final Vector2 origin;
+    private final Vector2 brickDimensions;
+    private final Vector2 cellDimensions;
+    private final long seed;
+    private final int[] strategyWeights;
+
+    /**
+     * Constructs a new LevelDescription instance.
+     * @param windowDimensions dimensions of the game's window
+     * @param rows amount of brick rows
+     * @param columns amount of bricks in every row
+     * @param origin top left corner of the first brick
+     * @param brickDimensions dimensions of a single brick
+     * @param cellDimensions horizontal and vertical distance between neighbouring bricks
+     * @param seed seed the strategies of the bricks are picked with
+     * @param strategyWeights relative weight of every strategy type
+     */
+    public LevelDescription(Vector2 windowDimensions, int rows, int columns, Vector2 origin,
+                            Vector2 brickDimensions, Vector2 cellDimensions, long seed,
+                            int[] strategyWeights) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("a level must have at least one brick");
+        }
+        if (brickDimensions.x() > cellDimensions.x() || brickDimensions.y() > cellDimensions.y()) {
+            throw new IllegalArgumentException("bricks must fit in their cells");
+        }
+        CollisionStrategyFactory.checkWeights(strategyWeights);
+        this.windowDimensions = windowDimensions;
+        this.rows = rows;
+        this.columns = columns;
+        this.origin = origin;
+        this.brickDimensions = brickDimensions;
+        this.cellDimensions = cellDimensions;
+        this.seed = seed;
+        this.strategyWeights = strategyWeights.clone();
+    }
+
+    /**
+     * Creates the description of the original level of the game
+     * @param seed seed the strategies of the bricks are picked with
+     * @return the default level
+     */
+    public static LevelDescription defaultLevel(long seed) {
+        return defaultLevel(DEFAULT_WINDOW_DIMENSIONS, seed);
+    }
+
+    /**
+     * Creates the description of the original level of the game in a window of the given dimensions
+     * @param windowDimensions dimensions of the game's window
+     * @param seed seed the strategies of the bricks are picked with
+     * @return the default level
+     */
+    public static LevelDescription defaultLevel(Vector2 windowDimensions, long seed) {
+        return new LevelDescription(windowDimensions, DEFAULT_ROWS, DEFAULT_COLUMNS,
+                DEFAULT_ORIGIN, DEFAULT_BRICK_DIMENSIONS, DEFAULT_CELL_DIMENSIONS, seed,
+                DEFAULT_STRATEGY_WEIGHTS);
+    }
+
+    /**
+     * Creates a copy of the level played with a different seed
+     * @param seed the seed of the copy
+     * @return the copy
+     */
+    public LevelDescription withSeed(long seed) {
+        return new LevelDescription(windowDimensions, rows, columns, origin, brickDimensions,
+                cellDimensions, seed, strategyWeights);
+    }
+
+    /**
+     * Reads a level description from a properties file
+     * @param path path of the file
+     * @return the level the file describes
+     * @throws IOException in case the file could not be read
+     * @throws IllegalArgumentException in case the file describes an invalid level
+     */
+    public static LevelDescription load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * Builds a level description from properties, see the class documentation for the keys
+     * @param properties properties describing the level
+     * @return the level the properties describe
+     * @throws IllegalArgumentException in case the properties describe an invalid level
+     */
+    public static LevelDescription fromProperties(Properties properties) {
+        try {
+            Vector2 windowDimensions = readVector(properties, "windowWidth", "windowHeight",
+                    DEFAULT_WINDOW_DIMENSIONS);
+            int rows = Integer.parseInt(properties.getProperty("rows", String.valueOf(DEFAULT_ROWS)));
+            int columns = Integer.parseInt(properties.getProperty("columns",
+                    String.valueOf(DEFAULT_COLUMNS)));
+            Vector2 origin = readVector(properties, "originX", "originY", DEFAULT_ORIGIN);
+            Vector2 brickDimensions = readVector(properties, "brickWidth", "brickHeight",
+                    DEFAULT_BRICK_DIMENSIONS);
+            Vector2 cellDimensions = readVector(properties, "cellWidth", "cellHeight",
+                    DEFAULT_CELL_DIMENSIONS);
+            String seedProperty = properties.getProperty("seed");
+            long seed = seedProperty == null ? System.nanoTime() : Long.parseLong(seedProperty.trim());
+            int[] strategyWeights = DEFAULT_STRATEGY_WEIGHTS;
+            String weightsProperty = properties.getProperty("strategyWeights");
+            if (weightsProperty != null) {
+                strategyWeights = Arrays.stream(weightsProperty.split(WEIGHTS_SEPARATOR))
+                        .mapToInt(weight -> Integer.parseInt(weight.trim())).toArray();
+            }
+            return new LevelDescription(windowDimensions, rows, columns, origin, brickDimensions,
+                    cellDimensions, seed, strategyWeights);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid level description: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Helper function reading a pair of float properties into a vector
+     * @param properties properties to read from
+     * @param xKey key of the x value
+     * @param yKey key of the y value
+     * @param defaultValue value of missing keys
+     * @return the read vector
+     */
+    private static Vector2 readVector(Properties properties, String xKey, String yKey,
+                                      Vector2 defaultValue) {
+        String x = properties.getProperty(xKey);
+        String y = properties.getProperty(yKey);
+        return new Vector2(x == null ? defaultValue.x() : Float.parseFloat(x.trim()),
+                y == null ? defaultValue.y() : Float.parseFloat(y.trim()));
+    }
+
+    /**
+     * Window dimensions getter
+     * @return dimensions of the game's window
+     */
+    public Vector2 getWindowDimensions() {
+        return windowDimensions;
+    }
+
+    /**
+     * Rows getter
+     * @return amount of brick rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Columns getter
+     * @return amount of bricks in every row
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Bricks getter
+     * @return amount of bricks in the level
+     */
+    public long getNumOfBricks() {
+        return (long) rows * columns;
+    }
+
+    /**
+     * Origin getter
+     * @return top left corner of the first brick
+     */
+    public Vector2 getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Brick dimensions getter
+     * @return dimensions of a single brick
+     */
+    public Vector2 getBrickDimensions() {
+        return brickDimensions;
+    }
+
+    /**
+     * Cell dimensions getter
+     * @return horizontal and vertical distance between neighbouring bricks
+     */
+    public Vector2 getCellDimensions() {
+        return cellDimensions;
+    }
+
+    /**
+     * Seed getter
+     * @return seed the strategies of the bricks are picked with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Strategy weights getter
+     * @return a copy of the relative weight of every strategy type
+     */
+    public int[] getStrategyWeights() {
+        return strategyWeights.clone();
+    }
+}
@@ -0,0 +1,93 @@
+package src.levels;
+
+import danogl.util.Vector2;
+import src.brick_strategies.CollisionStrategyFactory;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * The following class generates levels of the bricker game from a seed and picks the strategies of
+ * their bricks.
+ * Strategies are picked in parallel over fixed size chunks of bricks, every chunk with a random
+ * generator split off the level's seed in chunk order, so the picked strategies depend only on the
+ * seed and never on the amount of threads.
+ * @author Eliyahu Tamarkin
+ */
+public class LevelGenerator {
+
+    private static final int CHUNK_SIZE = 1 << 14;
+    private static final Vector2 ORIGIN = new Vector2(20, 5);
+    private static final float MAX_CELL_HEIGHT = 20;
+    private static final float BRICK_TO_CELL_RATIO = 0.95f;
+    private static final float BRICKS_AREA_HEIGHT_RATIO = 0.5f;
+    private static final int MAX_STRATEGY_WEIGHT = 4;
+    private static final int NUM_OF_STRATEGY_WEIGHTS = 6;
+
+    private LevelGenerator() {
+    }
+
+    /**
+     * Generates a level of the given size whose bricks fill the width of the window and the upper half
+     * of its height, with a strategy mix derived from the seed.
+     * @param seed seed of the level
+     * @param rows amount of brick rows
+     * @param columns amount of bricks in every row
+     * @param windowDimensions dimensions of the game's window
+     * @return the generated level
+     */
+    public static LevelDescription generate(long seed, int rows, int columns, Vector2 windowDimensions) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        float cellWidth = (windowDimensions.x() - 2 * ORIGIN.x()) / columns;
+        float cellHeight = Math.min(MAX_CELL_HEIGHT,
+                (windowDimensions.y() * BRICKS_AREA_HEIGHT_RATIO - ORIGIN.y()) / rows);
+        Vector2 cellDimensions = new Vector2(cellWidth, cellHeight);
+        Vector2 brickDimensions = new Vector2(cellWidth * BRICK_TO_CELL_RATIO, cellHeight);
+        int[] strategyWeights = new int[NUM_OF_STRATEGY_WEIGHTS];
+        for (int i = 0; i < strategyWeights.length; i++) {
+            strategyWeights[i] = rnd.nextInt(MAX_STRATEGY_WEIGHT) + 1;
+        }
+        return new LevelDescription(windowDimensions, rows, columns, ORIGIN, brickDimensions,
+                cellDimensions, rnd.nextLong(), strategyWeights);
+    }
+
+    /**
+     * Picks the strategy of every brick of a level, in parallel, with the level's seed
+     * @param level the level
+     * @return the strategy code of every brick, row after row, to be built by a
+     * CollisionStrategyFactory
+     */
+    public static int[] pickStrategies(LevelDescription level) {
+        return pickStrategies(level, level.getSeed());
+    }
+
+    /**
+     * Picks the strategy of every brick of a level, in parallel
+     * @param level the level
+     * @param seed seed to pick with
+     * @return the strategy code of every brick, row after row, to be built by a
+     * CollisionStrategyFactory
+     */
+    public static int[] pickStrategies(LevelDescription level, long seed) {
+        long numOfBricks = level.getNumOfBricks();
+        if (numOfBricks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("level has too many bricks: " + numOfBricks);
+        }
+        int[] strategyCodes = new int[(int) numOfBricks];
+        int[] strategyWeights = level.getStrategyWeights();
+        int numOfChunks = (strategyCodes.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] chunkRandoms = new SplittableRandom[numOfChunks];
+        for (int i = 0; i < numOfChunks; i++) {
+            chunkRandoms[i] = root.split();
+        }
+        IntStream.range(0, numOfChunks).parallel().forEach(chunk -> {
+            SplittableRandom rnd = chunkRandoms[chunk];
+            int end = Math.min(strategyCodes.length, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                strategyCodes[i] = CollisionStrategyFactory.pickStrategyCode(rnd, strategyWeights);
+            }
+        });
+        return strategyCodes;
+    }
+}
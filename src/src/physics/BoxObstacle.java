@@ -0,0 +1,32 @@
+package src.physics;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * The following class is an obstacle standing for the box of a game object with no behaviour of its
+ * own upon being hit, such as a wall.
+ * @author Eliyahu Tamarkin
+ */
+public class BoxObstacle implements SweptObstacle {
+
+    private final GameObject box;
+
+    /**
+     * Constructs a new BoxObstacle instance.
+     * @param box the game object whose box is the obstacle
+     */
+    public BoxObstacle(GameObject box) {
+        this.box = box;
+    }
+
+    @Override
+    public void sweep(GameObject mover, Vector2 displacement, SweepHit hit) {
+        Sweep.sweepBox(mover, displacement, box.getTopLeftCorner(), box.getDimensions(), hit, this,
+                SweepHit.NO_CELL);
+    }
+
+    @Override
+    public void onSweptHit(GameObject mover, SweepHit hit) {
+    }
+}
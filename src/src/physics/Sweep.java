@@ -0,0 +1,104 @@
+package src.physics;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * The following class sweeps moving axis aligned boxes against static ones.
+ * The static box is grown by the dimensions of the moving box, and the path of the moving box's
+ * corner is cast as a ray against the grown box, which gives the time of impact and the face hit.
+ * @author Eliyahu Tamarkin
+ */
+public final class Sweep {
+
+    private Sweep() {
+    }
+
+    /**
+     * Sweeps the box of a moving object against a static box
+     * @param mover the moving object, whose box is swept from its current position
+     * @param displacement the movement of the box over the sweep
+     * @param topLeftCorner top left corner of the static box
+     * @param dimensions dimensions of the static box
+     * @param hit the earliest impact found so far, replaced in case the static box is hit earlier
+     * @param obstacle obstacle the static box belongs to
+     * @param cell cell of the obstacle the static box belongs to, or SweepHit.NO_CELL
+     * @return true if the static box is hit before the held impact and false otherwise
+     */
+    public static boolean sweepBox(GameObject mover, Vector2 displacement, Vector2 topLeftCorner,
+                                   Vector2 dimensions, SweepHit hit, SweptObstacle obstacle, int cell) {
+        Vector2 moverCorner = mover.getTopLeftCorner();
+        Vector2 moverDimensions = mover.getDimensions();
+        return sweepBox(moverCorner.x(), moverCorner.y(), moverDimensions.x(), moverDimensions.y(),
+                displacement.x(), displacement.y(), topLeftCorner.x(), topLeftCorner.y(),
+                dimensions.x(), dimensions.y(), hit, obstacle, cell);
+    }
+
+    /**
+     * Sweeps a moving box against a static box
+     * @param x left edge of the moving box
+     * @param y top edge of the moving box
+     * @param width width of the moving box
+     * @param height height of the moving box
+     * @param dx horizontal movement of the box over the sweep
+     * @param dy vertical movement of the box over the sweep
+     * @param staticX left edge of the static box
+     * @param staticY top edge of the static box
+     * @param staticWidth width of the static box
+     * @param staticHeight height of the static box
+     * @param hit the earliest impact found so far, replaced in case the static box is hit earlier
+     * @param obstacle obstacle the static box belongs to
+     * @param cell cell of the obstacle the static box belongs to, or SweepHit.NO_CELL
+     * @return true if the static box is hit before the held impact and false otherwise
+     */
+    public static boolean sweepBox(float x, float y, float width, float height, float dx, float dy,
+                                   float staticX, float staticY, float staticWidth, float staticHeight,
+                                   SweepHit hit, SweptObstacle obstacle, int cell) {
+        float entryX;
+        float exitX;
+        if (dx > 0) {
+            entryX = (staticX - (x + width)) / dx;
+            exitX = (staticX + staticWidth - x) / dx;
+        }
+        else if (dx < 0) {
+            entryX = (staticX + staticWidth - x) / dx;
+            exitX = (staticX - (x + width)) / dx;
+        }
+        else if (x + width <= staticX || x >= staticX + staticWidth) {
+            return false;
+        }
+        else {
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        }
+        float entryY;
+        float exitY;
+        if (dy > 0) {
+            entryY = (staticY - (y + height)) / dy;
+            exitY = (staticY + staticHeight - y) / dy;
+        }
+        else if (dy < 0) {
+            entryY = (staticY + staticHeight - y) / dy;
+            exitY = (staticY - (y + height)) / dy;
+        }
+        else if (y + height <= staticY || y >= staticY + staticHeight) {
+            return false;
+        }
+        else {
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        }
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry >= exit || entry < 0 || entry > 1 || entry >= hit.getTime()) {
+            return false;
+        }
+        if (entryX > entryY) {
+            hit.set(entry, dx > 0 ? -1 : 1, 0, obstacle, cell);
+        }
+        else {
+            hit.set(entry, 0, dy > 0 ? -1 : 1, obstacle, cell);
+        }
+        return true;
+    }
+}
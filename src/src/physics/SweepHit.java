@@ -0,0 +1,100 @@
+package src.physics;
+
+/**
+ * The following class holds the earliest impact found while sweeping a moving box against the
+ * obstacles of the game. A single hit is reused for every sweep, so sweeping allocates nothing.
+ * @author Eliyahu Tamarkin
+ */
+public class SweepHit {
+
+    /**
+     * Cell of an impact with an obstacle which has no cells
+     */
+    public static final int NO_CELL = -1;
+
+    private float time;
+    private float normalX;
+    private float normalY;
+    private SweptObstacle obstacle;
+    private int cell;
+
+    /**
+     * Constructs a new SweepHit instance holding no impact.
+     */
+    public SweepHit() {
+        reset();
+    }
+
+    /**
+     * Forgets the impact held by the hit
+     */
+    public void reset() {
+        time = Float.POSITIVE_INFINITY;
+        obstacle = null;
+        cell = NO_CELL;
+    }
+
+    /**
+     * Checks whether an impact was found
+     * @return true if the hit holds an impact and false otherwise
+     */
+    public boolean isHit() {
+        return obstacle != null;
+    }
+
+    /**
+     * Time getter
+     * @return fraction of the sweep's displacement covered before the impact, between 0 and 1
+     */
+    public float getTime() {
+        return time;
+    }
+
+    /**
+     * Normal x getter
+     * @return horizontal component of the unit normal of the hit face, pointing towards the mover
+     */
+    public float getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * Normal y getter
+     * @return vertical component of the unit normal of the hit face, pointing towards the mover
+     */
+    public float getNormalY() {
+        return normalY;
+    }
+
+    /**
+     * Obstacle getter
+     * @return the obstacle that was hit, or null if no impact was found
+     */
+    public SweptObstacle getObstacle() {
+        return obstacle;
+    }
+
+    /**
+     * Cell getter
+     * @return the cell of the obstacle that was hit, or NO_CELL
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * Replaces the held impact
+     * @param time fraction of the displacement covered before the impact
+     * @param normalX horizontal component of the normal of the hit face
+     * @param normalY vertical component of the normal of the hit face
+     * @param obstacle the obstacle that was hit
+     * @param cell the cell of the obstacle that was hit
+     */
+    void set(float time, float normalX, float normalY, SweptObstacle obstacle, int cell) {
+        this.time = time;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.obstacle = obstacle;
+        this.cell = cell;
+    }
+}
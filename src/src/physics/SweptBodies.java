@@ -0,0 +1,68 @@
+package src.physics;
+
+import danogl.GameObject;
+import src.gameobjects.Ball;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The following class keeps the balls of the game and the obstacles among its game objects, such as
+ * the paddles and the brick grid, so that the swept collision world and the brick containers find them
+ * without scanning the game's default layer every step. Objects are registered when they are added to
+ * the game and unregistered when they are removed from it; objects which are neither balls nor swept
+ * obstacles are ignored.
+ * @author Eliyahu Tamarkin
+ */
+public class SweptBodies {
+
+    private final List<Ball> balls = new ArrayList<>();
+    private final List<SweptObstacle> obstacles = new ArrayList<>();
+    private final List<Ball> ballsView = Collections.unmodifiableList(balls);
+    private final List<SweptObstacle> obstaclesView = Collections.unmodifiableList(obstacles);
+
+    /**
+     * Registers an object added to the game, in case it is a ball or a swept obstacle
+     * @param gameObject the added object
+     */
+    public void register(GameObject gameObject) {
+        if (gameObject instanceof Ball) {
+            balls.add((Ball) gameObject);
+        }
+        else if (gameObject instanceof SweptObstacle) {
+            obstacles.add((SweptObstacle) gameObject);
+        }
+    }
+
+    /**
+     * Unregisters an object removed from the game. Objects which were never registered are ignored.
+     * @param gameObject the removed object
+     */
+    public void unregister(GameObject gameObject) {
+        if (gameObject instanceof Ball) {
+            balls.remove(gameObject);
+        }
+        else if (gameObject instanceof SweptObstacle) {
+            obstacles.remove(gameObject);
+        }
+    }
+
+    /**
+     * Balls getter
+     * @return the registered balls, in the order they were registered. The list is a live view and
+     *         must not be iterated while objects are added to or removed from the game.
+     */
+    public List<Ball> getBalls() {
+        return ballsView;
+    }
+
+    /**
+     * Obstacles getter
+     * @return the registered obstacles, in the order they were registered. The list is a live view
+     *         and must not be iterated while objects are added to or removed from the game.
+     */
+    public List<SweptObstacle> getObstacles() {
+        return obstaclesView;
+    }
+}
@@ -0,0 +1,96 @@
+package src.physics;
+
+import danogl.util.Vector2;
+import src.gameobjects.Ball;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The following class moves the balls of the game with swept collision, so that a ball hits the
+ * obstacles on its way at the exact time of impact however far it moves in a single step, instead of
+ * tunneling through thin walls and bricks at low tick rates or high speeds.
+ * Every step, each ball is swept along its velocity against the obstacles. On impact it is moved to
+ * the point of impact, bounced off the hit face and the obstacle is notified, and the rest of the
+ * step is swept again with the new velocity, up to MAX_IMPACTS times. The ball is finally placed at
+ * the swept position and is not moved by the engine over the step, so every position the ball is
+ * seen at lies on its true path. Balls stop a small distance short of the faces they hit, and the
+ * collision masks keep the engine from colliding the balls with the walls and the paddles, so every
+ * impact is bounced off and reported once.
+ * The balls and the obstacles among the game objects, such as the paddles and the brick grid, are
+ * taken from the swept bodies they are registered with; other obstacles are added to the world.
+ * @author Eliyahu Tamarkin
+ */
+public class SweptCollisionWorld {
+
+    private static final int MAX_IMPACTS = 4;
+    private static final float SKIN = 0.01f;
+
+    private final SweptBodies sweptBodies;
+    private final List<SweptObstacle> addedObstacles = new ArrayList<>();
+    private final List<SweptObstacle> obstacles = new ArrayList<>();
+    private final List<Ball> balls = new ArrayList<>();
+    private final SweepHit hit = new SweepHit();
+
+    /**
+     * Constructs a new SweptCollisionWorld instance.
+     * @param sweptBodies the balls and obstacles of the current game
+     */
+    public SweptCollisionWorld(SweptBodies sweptBodies) {
+        this.sweptBodies = sweptBodies;
+    }
+
+    /**
+     * Adds an obstacle which is not a registered game object, such as a wall or the brick field, for
+     * the rest of the game
+     * @param obstacle the obstacle
+     */
+    public void addObstacle(SweptObstacle obstacle) {
+        addedObstacles.add(obstacle);
+    }
+
+    /**
+     * Moves every ball of the game through a single simulation step. Must be called right before the
+     * engine updates the game objects with the same deltaTime.
+     * @param deltaTime the time, in seconds, the step simulates
+     */
+    public void step(float deltaTime) {
+        balls.clear();
+        balls.addAll(sweptBodies.getBalls());
+        obstacles.clear();
+        obstacles.addAll(addedObstacles);
+        obstacles.addAll(sweptBodies.getObstacles());
+        for (Ball ball : balls) {
+            moveBall(ball, deltaTime);
+        }
+    }
+
+    /**
+     * Sweeps a ball through a single simulation step
+     * @param ball the ball
+     * @param deltaTime the time, in seconds, the step simulates
+     */
+    private void moveBall(Ball ball, float deltaTime) {
+        ball.beginSweptStep();
+        Vector2 velocity = ball.getVelocity();
+        float remainingTime = deltaTime;
+        for (int impacts = 0; impacts < MAX_IMPACTS && remainingTime > 0; impacts++) {
+            Vector2 displacement = velocity.mult(remainingTime);
+            hit.reset();
+            for (SweptObstacle obstacle : obstacles) {
+                obstacle.sweep(ball, displacement, hit);
+            }
+            if (!hit.isHit()) {
+                break;
+            }
+            Vector2 normal = new Vector2(hit.getNormalX(), hit.getNormalY());
+            ball.setTopLeftCorner(ball.getTopLeftCorner().add(displacement.mult(hit.getTime()))
+                    .add(normal.mult(SKIN)));
+            remainingTime -= remainingTime * hit.getTime();
+            ball.bounce(normal);
+            hit.getObstacle().onSweptHit(ball, hit);
+            velocity = ball.getVelocity();
+        }
+        ball.setTopLeftCorner(ball.getTopLeftCorner().add(velocity.mult(remainingTime)));
+    }
+}
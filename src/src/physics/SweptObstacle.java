@@ -0,0 +1,29 @@
+package src.physics;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * Interface of obstacles moving balls are swept against, so that a ball hits them at the exact time
+ * of impact however far it moves in a single step.
+ * @author Eliyahu Tamarkin
+ */
+public interface SweptObstacle {
+    /**
+     * Sweeps a moving box against the obstacle, and replaces the impact held by the hit in case the box
+     * hits the obstacle earlier. Boxes that already overlap the obstacle at the start of the sweep do
+     * not hit it.
+     * @param mover the moving object, whose box is swept from its current position
+     * @param displacement the movement of the box over the sweep
+     * @param hit the earliest impact found so far
+     */
+    void sweep(GameObject mover, Vector2 displacement, SweepHit hit);
+
+    /**
+     * Called once a moving object has hit the obstacle, after it has been moved to the impact and
+     * bounced off it
+     * @param mover the moving object
+     * @param hit the impact
+     */
+    void onSweptHit(GameObject mover, SweepHit hit);
+}
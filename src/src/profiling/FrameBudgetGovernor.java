@@ -0,0 +1,239 @@
+package src.profiling;
+
+import src.audio.AudioDispatcher;
+import src.gameobjects.GameObjectPool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The following class keeps the game within its frame budget by shedding load once frames take too
+ * long. It measures the time every frame spends in the game's update and the rest of the frame, which
+ * is spent rendering, and averages the frame times so that a single slow frame does not trigger
+ * shedding. While the average is over the budget the game is over budget until it drops well below it
+ * again.
+ * The pools of the transient objects, such as the puck balls and the falling hearts, cap their live
+ * objects at all times. While over budget the governor tightens the caps of the pools registered with
+ * it to a fraction of their maximum, unless cap shedding is disabled, and restores them once the game
+ * recovers; a hit that would spawn past the cap spawns nothing. While over budget the cosmetic work of
+ * the frame is also skipped and the sounds are played on fewer voices, so more of them are merged.
+ * Every shedding decision is counted.
+ * While disabled the game is never over budget and only the caps are enforced, so headless runs stay
+ * deterministic. Recorded games disable cap shedding only, since the caps change the game's state and
+ * must not depend on the speed of the machine, while the cosmetic and audio shedding do not.
+ * @author Eliyahu Tamarkin
+ */
+public class FrameBudgetGovernor {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double SMOOTHING = 0.1;
+    private static final double RECOVERY_FRACTION = 0.85;
+    private static final double OVER_BUDGET_CAP_FRACTION = 0.5;
+    private static final int OVER_BUDGET_VOICES_PER_SOUND = 1;
+
+    private final long frameBudgetNanos;
+    private final List<GameObjectPool<?>> cappedPools = new ArrayList<>();
+    private boolean enabled = true;
+    private boolean capShedding = true;
+    private long frameStart;
+    private long updateNanos;
+    private long renderNanos;
+    private double averageFrameNanos;
+    private boolean overBudget;
+    private long overBudgetFrames;
+    private long skippedCosmeticFrames;
+    private long reducedAudioFrames;
+
+    /**
+     * Constructs a new FrameBudgetGovernor instance.
+     * @param frameBudgetSeconds time a frame may take, in seconds
+     */
+    public FrameBudgetGovernor(double frameBudgetSeconds) {
+        if (frameBudgetSeconds <= 0) {
+            throw new IllegalArgumentException("frame budget must be positive");
+        }
+        this.frameBudgetNanos = (long) (frameBudgetSeconds * 1_000_000_000L);
+    }
+
+    /**
+     * Enables or disables the time measurements. A disabled governor is never over budget.
+     * @param enabled true to shed load once frames take too long and false otherwise
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        this.overBudget = false;
+        this.frameStart = 0;
+        this.averageFrameNanos = 0;
+        applyCaps();
+    }
+
+    /**
+     * Enables or disables tightening the caps of the registered pools while over budget. The
+     * cosmetic and audio shedding are not affected.
+     * @param capShedding true to tighten the caps while over budget and false to keep them as they are
+     */
+    public void setCapShedding(boolean capShedding) {
+        this.capShedding = capShedding;
+        applyCaps();
+    }
+
+    /**
+     * Registers a pool whose live cap is tightened while over budget
+     * @param pool pool of transient objects
+     */
+    public void addCappedPool(GameObjectPool<?> pool) {
+        cappedPools.add(pool);
+        applyCaps();
+    }
+
+    /**
+     * Unregisters all pools, e.g. once the game they belong to is thrown away
+     */
+    public void clearCappedPools() {
+        cappedPools.clear();
+    }
+
+    /**
+     * Starts measuring a frame, ending the measurement of the previous one. Called at the start of the
+     * game's update.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (frameStart != 0) {
+            boolean wasOverBudget = overBudget;
+            long frameNanos = now - frameStart;
+            renderNanos = Math.max(0, frameNanos - updateNanos);
+            averageFrameNanos = averageFrameNanos == 0 ? frameNanos :
+                    averageFrameNanos + SMOOTHING * (frameNanos - averageFrameNanos);
+            if (averageFrameNanos > frameBudgetNanos) {
+                overBudget = true;
+            }
+            else if (averageFrameNanos < frameBudgetNanos * RECOVERY_FRACTION) {
+                overBudget = false;
+            }
+            if (overBudget) {
+                overBudgetFrames++;
+            }
+            if (overBudget != wasOverBudget) {
+                applyCaps();
+            }
+        }
+        frameStart = now;
+    }
+
+    /**
+     * Ends measuring the update of the current frame. Called at the end of the game's update.
+     */
+    public void endUpdate() {
+        if (enabled && frameStart != 0) {
+            updateNanos = System.nanoTime() - frameStart;
+        }
+    }
+
+    /**
+     * Decides whether the cosmetic work of the current frame should be skipped
+     * @return true while over budget and false otherwise
+     */
+    public boolean shouldSkipCosmetics() {
+        if (overBudget) {
+            skippedCosmeticFrames++;
+        }
+        return overBudget;
+    }
+
+    /**
+     * Sets the amount of voices the sounds of the current frame are played on
+     * @param audioDispatcher dispatcher playing the sounds of the game
+     */
+    public void applyAudioVoices(AudioDispatcher audioDispatcher) {
+        if (overBudget) {
+            reducedAudioFrames++;
+            audioDispatcher.setVoicesPerSound(OVER_BUDGET_VOICES_PER_SOUND);
+        }
+        else {
+            audioDispatcher.setVoicesPerSound(AudioDispatcher.MAX_VOICES_PER_SOUND);
+        }
+    }
+
+    /**
+     * Over budget getter
+     * @return true if the recent frames took longer than the budget and false otherwise
+     */
+    public boolean isOverBudget() {
+        return overBudget;
+    }
+
+    /**
+     * Update time getter
+     * @return time the last measured frame spent in the game's update, in milliseconds
+     */
+    public double getUpdateMillis() {
+        return updateNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Render time getter
+     * @return time the last measured frame spent outside the game's update, in milliseconds
+     */
+    public double getRenderMillis() {
+        return renderNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Over budget frames getter
+     * @return amount of frames measured while over budget
+     */
+    public long getOverBudgetFrames() {
+        return overBudgetFrames;
+    }
+
+    /**
+     * Skipped cosmetics getter
+     * @return amount of frames whose cosmetic work was skipped
+     */
+    public long getSkippedCosmeticFrames() {
+        return skippedCosmeticFrames;
+    }
+
+    /**
+     * Reduced audio getter
+     * @return amount of frames whose sounds were played on fewer voices
+     */
+    public long getReducedAudioFrames() {
+        return reducedAudioFrames;
+    }
+
+    /**
+     * Shed spawns getter
+     * @return amount of transient objects the registered pools did not spawn since their cap was reached
+     */
+    public long getShedSpawns() {
+        long shedSpawns = 0;
+        for (GameObjectPool<?> pool : cappedPools) {
+            shedSpawns += pool.getRefusedSpawns();
+        }
+        return shedSpawns;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("budget %s update %.2f render %.2f shed %d skip %d audio %d",
+                overBudget ? "over" : "ok", getUpdateMillis(), getRenderMillis(), getShedSpawns(),
+                skippedCosmeticFrames, reducedAudioFrames);
+    }
+
+    /**
+     * Helper function setting the caps of the registered pools, tightened while over budget unless cap
+     * shedding is disabled and at their maximum otherwise
+     */
+    private void applyCaps() {
+        boolean tightened = overBudget && capShedding;
+        for (GameObjectPool<?> pool : cappedPools) {
+            pool.setLiveCap(tightened ? (int) (pool.getMaxLive() * OVER_BUDGET_CAP_FRACTION) :
+                    pool.getMaxLive());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package src.profiling;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The following class gathers the time the game's objects spend in their update and collision
+ * methods and the time spent playing every type of collision strategy.
+ * Measured methods call start before their body and one of the record functions after it. While the
+ * monitor is disabled start does not read the clock and the record functions return at once, so a
+ * measured method costs a single field read. Every game owns its own monitor, which it passes to the
+ * objects it measures, so games running side by side never share measurements. The monitor is meant
+ * to be used by the game's thread only.
+ * @author Eliyahu Tamarkin
+ */
+public final class PerformanceMonitor {
+
+    /**
+     * The start time returned while the monitor is disabled
+     */
+    public static final long NOT_MEASURED = Long.MIN_VALUE;
+
+    /**
+     * The following class accumulates the measurements of a single class
+     */
+    public static final class Section {
+
+        private long nanos;
+        private int calls;
+
+        /**
+         * Nanos getter
+         * @return total time measured since the section was last cleared, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Calls getter
+         * @return amount of measured calls since the section was last cleared
+         */
+        public int getCalls() {
+            return calls;
+        }
+    }
+
+    private boolean enabled;
+    private final Map<Class<?>, Section> updateSections = new HashMap<>();
+    private final Map<Class<?>, Section> collisionSections = new HashMap<>();
+    private final Map<Class<?>, Section> strategySections = new HashMap<>();
+
+    /**
+     * Enables or disables the monitor. The measurements gathered so far are cleared either way.
+     * @param enabled true to start measuring and false to stop
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        clear();
+    }
+
+    /**
+     * Enabled getter
+     * @return true if the monitor is currently measuring and false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts measuring a method
+     * @return the start time to pass to the record function, or NOT_MEASURED if disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : NOT_MEASURED;
+    }
+
+    /**
+     * Records the time spent in the update method of an object
+     * @param object the updated object
+     * @param start value returned by start
+     */
+    public void recordUpdate(Object object, long start) {
+        record(updateSections, object, start);
+    }
+
+    /**
+     * Records the time spent in the onCollisionEnter method of an object
+     * @param object the collided object
+     * @param start value returned by start
+     */
+    public void recordCollision(Object object, long start) {
+        record(collisionSections, object, start);
+    }
+
+    /**
+     * Records the time spent playing a collision strategy
+     * @param strategy the played strategy
+     * @param start value returned by start
+     */
+    public void recordStrategy(Object strategy, long start) {
+        record(strategySections, strategy, start);
+    }
+
+    /**
+     * Update measurements getter
+     * @return the update measurements of every measured class
+     */
+    public Map<Class<?>, Section> getUpdateSections() {
+        return updateSections;
+    }
+
+    /**
+     * Collision measurements getter
+     * @return the onCollisionEnter measurements of every measured class
+     */
+    public Map<Class<?>, Section> getCollisionSections() {
+        return collisionSections;
+    }
+
+    /**
+     * Strategy measurements getter
+     * @return the measurements of every played collision strategy type
+     */
+    public Map<Class<?>, Section> getStrategySections() {
+        return strategySections;
+    }
+
+    /**
+     * Clears all measurements gathered so far
+     */
+    public void clear() {
+        updateSections.clear();
+        collisionSections.clear();
+        strategySections.clear();
+    }
+
+    /**
+     * Adds a measurement to the section of the object's class
+     * @param sections sections of the measured method
+     * @param object the measured object
+     * @param start value returned by start
+     */
+    private void record(Map<Class<?>, Section> sections, Object object, long start) {
+        if (start == NOT_MEASURED || !enabled) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        Section section = sections.computeIfAbsent(object.getClass(), key -> new Section());
+        section.nanos += elapsed;
+        section.calls++;
+    }
+}
@@ -0,0 +1,235 @@
+package src.profiling;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.components.CoordinateSpace;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import src.gameobjects.Ball;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The following class represents the performance overlay of the game.
+ * It shows the game's startup times, the load shed by the frame budget governor, the percentiles of
+ * the recent frame times, the amount of live objects of every class of the game objects package, and
+ * the time spent per frame in the update and onCollisionEnter methods of every class and in every type
+ * of collision strategy, as gathered by the performance monitor.
+ * The text is rebuilt a couple of times a second rather than every frame. The overlay exists only while
+ * it is shown, so a hidden overlay costs nothing.
+ * @author Eliyahu Tamarkin
+ */
+public class PerformanceOverlay extends GameObject {
+
+    private static final int FRAME_HISTORY = 256;
+    private static final float REFRESH_INTERVAL = 0.5F;
+    private static final float NANOS_PER_MILLI = 1_000_000F;
+    private static final int LINE_HEIGHT = 14;
+    private static final int MARGIN = 4;
+    private static final float WIDTH = 360;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final Color BACKGROUND_COLOR = new Color(0, 0, 0, 160);
+    private static final Color TEXT_COLOR = Color.WHITE;
+    private static final String GAME_OBJECTS_PACKAGE = Ball.class.getPackage().getName();
+
+    private final GameObjectCollection gameObjects;
+    private final StartupMetrics startupMetrics;
+    private final FrameBudgetGovernor frameBudgetGovernor;
+    private final PerformanceMonitor performanceMonitor;
+    private final long[] frameTimes = new long[FRAME_HISTORY];
+    private int numOfFrameTimes;
+    private int nextFrameTime;
+    private long lastFrameStart;
+    private int framesSinceRefresh;
+    private float timeSinceRefresh;
+    private List<String> lines = new ArrayList<>();
+
+    /**
+     * The following class draws the lines of the overlay over a translucent background
+     */
+    private class OverlayRenderable implements Renderable {
+
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            g.setColor(BACKGROUND_COLOR);
+            g.fillRect((int) topLeftCorner.x(), (int) topLeftCorner.y(),
+                    (int) dimensions.x(), (int) dimensions.y());
+            g.setColor(TEXT_COLOR);
+            g.setFont(FONT);
+            int y = (int) topLeftCorner.y() + MARGIN;
+            for (String line : lines) {
+                y += LINE_HEIGHT;
+                g.drawString(line, (int) topLeftCorner.x() + MARGIN, y - 3);
+            }
+        }
+    }
+
+    /**
+     * Constructs a new PerformanceOverlay instance.
+     * @param topLeftCorner Position of the overlay, in camera coordinates.
+     * @param gameObjects the current game's game objects, counted by class
+     * @param startupMetrics startup times of the current game
+     * @param frameBudgetGovernor governor of the current game's frame budget
+     * @param performanceMonitor monitor of the current game, whose measurements are shown
+     */
+    public PerformanceOverlay(Vector2 topLeftCorner, GameObjectCollection gameObjects,
+                              StartupMetrics startupMetrics, FrameBudgetGovernor frameBudgetGovernor,
+                              PerformanceMonitor performanceMonitor) {
+        super(topLeftCorner, new Vector2(WIDTH, LINE_HEIGHT + 2 * MARGIN), null);
+        this.gameObjects = gameObjects;
+        this.startupMetrics = startupMetrics;
+        this.frameBudgetGovernor = frameBudgetGovernor;
+        this.performanceMonitor = performanceMonitor;
+        setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+        renderer().setRenderable(new OverlayRenderable());
+    }
+
+    /**
+     * The overlay never takes part in the engine's collisions
+     * @param other The other GameObject
+     * @return false
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+
+    /**
+     * Records the time of the frame that has just ended and rebuilds the overlay's text once the
+     * refresh interval has passed
+     * @param deltaTime The time elapsed, in seconds, since the last frame. Can
+     *                  be used to determine a new position/velocity by multiplying
+     *                  this delta with the velocity/acceleration respectively
+     *                  and adding to the position/velocity:
+     *                  velocity += deltaTime*acceleration
+     *                  pos += deltaTime*velocity
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        long now = System.nanoTime();
+        if (lastFrameStart != 0) {
+            frameTimes[nextFrameTime] = now - lastFrameStart;
+            nextFrameTime = (nextFrameTime + 1) % FRAME_HISTORY;
+            numOfFrameTimes = Math.min(numOfFrameTimes + 1, FRAME_HISTORY);
+        }
+        lastFrameStart = now;
+        framesSinceRefresh++;
+        timeSinceRefresh += deltaTime;
+        if (timeSinceRefresh >= REFRESH_INTERVAL) {
+            refresh();
+            performanceMonitor.clear();
+            framesSinceRefresh = 0;
+            timeSinceRefresh = 0;
+        }
+    }
+
+    /**
+     * Rebuilds the lines of the overlay from the recent frame times, the live objects and the
+     * measurements gathered since the last refresh
+     */
+    private void refresh() {
+        List<String> newLines = new ArrayList<>();
+        newLines.add(startupMetrics.toString());
+        newLines.add(frameBudgetGovernor.toString());
+        newLines.add(describeFrameTimes());
+        Map<String, Integer> liveObjects = countLiveObjects();
+        Map<String, PerformanceMonitor.Section> updates = byName(performanceMonitor.getUpdateSections());
+        Map<String, PerformanceMonitor.Section> collisions =
+                byName(performanceMonitor.getCollisionSections());
+        newLines.add(String.format("%-18s %5s %9s %9s", "class", "live", "update", "collide"));
+        for (Map.Entry<String, Integer> entry : liveObjects.entrySet()) {
+            String name = entry.getKey();
+            newLines.add(String.format("%-18s %5d %9s %9s", name, entry.getValue(),
+                    describeSection(updates.get(name)), describeSection(collisions.get(name))));
+        }
+        Map<String, PerformanceMonitor.Section> strategies =
+                byName(performanceMonitor.getStrategySections());
+        if (!strategies.isEmpty()) {
+            newLines.add(String.format("%-18s %5s %9s", "strategy", "calls", "time"));
+            for (Map.Entry<String, PerformanceMonitor.Section> entry : strategies.entrySet()) {
+                newLines.add(String.format("%-18s %5d %9s", entry.getKey(), entry.getValue().getCalls(),
+                        describeSection(entry.getValue())));
+            }
+        }
+        lines = newLines;
+        setDimensions(new Vector2(WIDTH, newLines.size() * LINE_HEIGHT + 2 * MARGIN));
+    }
+
+    /**
+     * Describes the percentiles of the recent frame times
+     * @return a line describing the frame times, in milliseconds
+     */
+    private String describeFrameTimes() {
+        if (numOfFrameTimes == 0) {
+            return "frame ms: -";
+        }
+        long[] sorted = Arrays.copyOf(frameTimes, numOfFrameTimes);
+        Arrays.sort(sorted);
+        return String.format("frame ms p50 %.2f p95 %.2f p99 %.2f max %.2f",
+                percentile(sorted, 0.5), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted[sorted.length - 1] / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Finds a percentile of sorted frame times
+     * @param sorted frame times in ascending order
+     * @param fraction the percentile, between 0 and 1
+     * @return the percentile in milliseconds
+     */
+    private static float percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Describes the time per frame spent in a measured section
+     * @param section the section, or null if it was not measured
+     * @return the average time per frame in milliseconds, or a dash if it was not measured
+     */
+    private String describeSection(PerformanceMonitor.Section section) {
+        if (section == null || framesSinceRefresh == 0) {
+            return "-";
+        }
+        return String.format("%.3fms", section.getNanos() / NANOS_PER_MILLI / framesSinceRefresh);
+    }
+
+    /**
+     * Counts the live objects of every class of the game objects package
+     * @return the amount of live objects of every class, by simple class name
+     */
+    private Map<String, Integer> countLiveObjects() {
+        Map<String, Integer> liveObjects = new TreeMap<>();
+        for (GameObject gameObject : gameObjects) {
+            Class<?> objectClass = gameObject.getClass();
+            if (objectClass.getPackage() != null &&
+                    objectClass.getPackage().getName().equals(GAME_OBJECTS_PACKAGE)) {
+                liveObjects.merge(objectClass.getSimpleName(), 1, Integer::sum);
+            }
+        }
+        return liveObjects;
+    }
+
+    /**
+     * Sorts measured sections by the simple name of their class
+     * @param sections sections by class
+     * @return the same sections by simple class name
+     */
+    private static Map<String, PerformanceMonitor.Section> byName(
+            Map<Class<?>, PerformanceMonitor.Section> sections) {
+        Map<String, PerformanceMonitor.Section> byName = new TreeMap<>();
+        for (Map.Entry<Class<?>, PerformanceMonitor.Section> entry : sections.entrySet()) {
+            byName.put(entry.getKey().getSimpleName(), entry.getValue());
+        }
+        return byName;
+    }
+}
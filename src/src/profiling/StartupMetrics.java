@@ -0,0 +1,87 @@
+package src.profiling;
+
+/**
+ * The following class measures how long a game takes to start: the time from the start of its
+ * initialization until its first frame is shown, and until it becomes interactive, i.e. until all of
+ * its objects are in place and the simulation starts running.
+ * @author Eliyahu Tamarkin
+ */
+public class StartupMetrics {
+
+    /**
+     * The time returned for a point the game has not reached yet
+     */
+    public static final double NOT_MEASURED = -1;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private long startTime;
+    private long firstFrameTime;
+    private long interactiveTime;
+    private boolean firstFrameShown;
+    private boolean interactive;
+
+    /**
+     * Marks the start of the game's initialization, clearing the previous measurements
+     */
+    public void markStart() {
+        startTime = System.nanoTime();
+        firstFrameShown = false;
+        interactive = false;
+    }
+
+    /**
+     * Marks that a frame of the game is shown. Only the first frame after the start is measured.
+     */
+    public void markFrame() {
+        if (!firstFrameShown) {
+            firstFrameTime = System.nanoTime();
+            firstFrameShown = true;
+        }
+    }
+
+    /**
+     * Marks that the game has become interactive
+     */
+    public void markInteractive() {
+        if (!interactive) {
+            interactiveTime = System.nanoTime();
+            interactive = true;
+        }
+    }
+
+    /**
+     * Time to first frame getter
+     * @return time from the start until the first frame, in milliseconds, or NOT_MEASURED
+     */
+    public double getTimeToFirstFrameMillis() {
+        return firstFrameShown ? (firstFrameTime - startTime) / NANOS_PER_MILLI : NOT_MEASURED;
+    }
+
+    /**
+     * Time to interactive getter
+     * @return time from the start until the game became interactive, in milliseconds, or NOT_MEASURED
+     */
+    public double getTimeToInteractiveMillis() {
+        return interactive ? (interactiveTime - startTime) / NANOS_PER_MILLI : NOT_MEASURED;
+    }
+
+    /**
+     * Describes the measurements
+     * @return a line describing the startup times
+     */
+    @Override
+    public String toString() {
+        return String.format("startup ms first frame %s interactive %s",
+                describe(getTimeToFirstFrameMillis()), describe(getTimeToInteractiveMillis()));
+    }
+
+    /**
+     * Helper function describing a single measurement
+     * @param millis the measurement
+     * @return the measurement, or a dash if it was not measured
+     */
+    private static String describe(double millis) {
+        return millis == NOT_MEASURED ? "-" : String.format("%.1f", millis);
+    }
+}
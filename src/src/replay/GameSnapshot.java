@@ -0,0 +1,112 @@
+package src.replay;
+
+import danogl.util.Vector2;
+import src.GameOutcome;
+
+import java.util.Objects;
+
+/**
+ * The following class is a snapshot of the state of a game, used to check that a replayed game ends
+ * the same as the recorded one.
+ * @author Eliyahu Tamarkin
+ */
+public class GameSnapshot {
+
+    private final GameOutcome outcome;
+    private final int numOfBricks;
+    private final int numOfLives;
+    private final float ballX;
+    private final float ballY;
+
+    /**
+     * Constructs a new GameSnapshot instance.
+     * @param outcome outcome of the game
+     * @param numOfBricks amount of bricks left
+     * @param numOfLives amount of lives left
+     * @param ballCenter center of the main ball
+     */
+    public GameSnapshot(GameOutcome outcome, int numOfBricks, int numOfLives, Vector2 ballCenter) {
+        this(outcome, numOfBricks, numOfLives, ballCenter.x(), ballCenter.y());
+    }
+
+    /**
+     * Constructs a new GameSnapshot instance.
+     * @param outcome outcome of the game
+     * @param numOfBricks amount of bricks left
+     * @param numOfLives amount of lives left
+     * @param ballX x coordinate of the center of the main ball
+     * @param ballY y coordinate of the center of the main ball
+     */
+    GameSnapshot(GameOutcome outcome, int numOfBricks, int numOfLives, float ballX, float ballY) {
+        this.outcome = outcome;
+        this.numOfBricks = numOfBricks;
+        this.numOfLives = numOfLives;
+        this.ballX = ballX;
+        this.ballY = ballY;
+    }
+
+    /**
+     * Outcome getter
+     * @return outcome of the game
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Bricks getter
+     * @return amount of bricks left
+     */
+    public int getNumOfBricks() {
+        return numOfBricks;
+    }
+
+    /**
+     * Lives getter
+     * @return amount of lives left
+     */
+    public int getNumOfLives() {
+        return numOfLives;
+    }
+
+    /**
+     * Ball x getter
+     * @return x coordinate of the center of the main ball
+     */
+    public float getBallX() {
+        return ballX;
+    }
+
+    /**
+     * Ball y getter
+     * @return y coordinate of the center of the main ball
+     */
+    public float getBallY() {
+        return ballY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameSnapshot)) {
+            return false;
+        }
+        GameSnapshot snapshot = (GameSnapshot) other;
+        return outcome == snapshot.outcome && numOfBricks == snapshot.numOfBricks &&
+                numOfLives == snapshot.numOfLives && Float.compare(ballX, snapshot.ballX) == 0 &&
+                Float.compare(ballY, snapshot.ballY) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(outcome, numOfBricks, numOfLives, ballX, ballY);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("outcome=%s bricks=%d lives=%d ball=(%.2f, %.2f)", outcome, numOfBricks,
+                numOfLives, ballX, ballY);
+    }
+}
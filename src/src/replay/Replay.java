@@ -0,0 +1,197 @@
+package src.replay;
+
+import src.GameOutcome;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The following class holds a recorded game: the seed the game was played with, the keys that were
+ * recorded, and runs of consecutive ticks that had the same pressed keys and the same deltaTime.
+ * Every run is stored as a bit mask of the pressed keys, a deltaTime and a length, so a recording of
+ * a game played at a fixed deltaTime takes a few bytes per change of input.
+ * @author Eliyahu Tamarkin
+ */
+public class Replay {
+
+    private static final int MAGIC = 0x42524b52;
+    private static final int VERSION = 2;
+
+    private final long seed;
+    private final int tickRate;
+    private final int[] keyCodes;
+    private final int[] runMasks;
+    private final float[] runDeltaTimes;
+    private final int[] runLengths;
+    private final GameSnapshot finalSnapshot;
+
+    /**
+     * Constructs a new Replay instance.
+     * @param seed seed the game was played with
+     * @param tickRate simulation steps per second the game was played at
+     * @param keyCodes codes of the recorded keys, bit i of a mask stands for keyCodes[i]
+     * @param runMasks pressed keys mask of every run
+     * @param runDeltaTimes deltaTime of every run
+     * @param runLengths amount of ticks of every run
+     * @param finalSnapshot state of the game once it ended, or null if it never ended
+     */
+    Replay(long seed, int tickRate, int[] keyCodes, int[] runMasks, float[] runDeltaTimes, int[] runLengths,
+           GameSnapshot finalSnapshot) {
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.keyCodes = keyCodes;
+        this.runMasks = runMasks;
+        this.runDeltaTimes = runDeltaTimes;
+        this.runLengths = runLengths;
+        this.finalSnapshot = finalSnapshot;
+    }
+
+    /**
+     * Seed getter
+     * @return seed the game was played with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Tick rate getter
+     * @return simulation steps per second the game was played at
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Key codes getter
+     * @return a copy of the codes of the recorded keys
+     */
+    public int[] getKeyCodes() {
+        return keyCodes.clone();
+    }
+
+    /**
+     * Runs getter
+     * @return amount of runs in the replay
+     */
+    public int getNumOfRuns() {
+        return runLengths.length;
+    }
+
+    /**
+     * Run mask getter
+     * @param run index of the run
+     * @return pressed keys mask of the run
+     */
+    public int getRunMask(int run) {
+        return runMasks[run];
+    }
+
+    /**
+     * Run deltaTime getter
+     * @param run index of the run
+     * @return deltaTime of every tick of the run
+     */
+    public float getRunDeltaTime(int run) {
+        return runDeltaTimes[run];
+    }
+
+    /**
+     * Run length getter
+     * @param run index of the run
+     * @return amount of ticks of the run
+     */
+    public int getRunLength(int run) {
+        return runLengths[run];
+    }
+
+    /**
+     * Ticks getter
+     * @return amount of ticks recorded
+     */
+    public long getNumOfTicks() {
+        long ticks = 0;
+        for (int length : runLengths) {
+            ticks += length;
+        }
+        return ticks;
+    }
+
+    /**
+     * Final snapshot getter
+     * @return state of the game once it ended, or null if it never ended
+     */
+    public GameSnapshot getFinalSnapshot() {
+        return finalSnapshot;
+    }
+
+    /**
+     * Writes the replay in its binary format
+     * @param outputStream stream to write to, left open
+     * @throws IOException in case writing fails
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeInt(tickRate);
+        out.writeByte(keyCodes.length);
+        for (int keyCode : keyCodes) {
+            out.writeInt(keyCode);
+        }
+        out.writeInt(runLengths.length);
+        for (int i = 0; i < runLengths.length; i++) {
+            out.writeInt(runMasks[i]);
+            out.writeFloat(runDeltaTimes[i]);
+            out.writeInt(runLengths[i]);
+        }
+        out.writeBoolean(finalSnapshot != null);
+        if (finalSnapshot != null) {
+            out.writeByte(finalSnapshot.getOutcome().ordinal());
+            out.writeInt(finalSnapshot.getNumOfBricks());
+            out.writeInt(finalSnapshot.getNumOfLives());
+            out.writeFloat(finalSnapshot.getBallX());
+            out.writeFloat(finalSnapshot.getBallY());
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a replay written by write
+     * @param inputStream stream to read from, left open
+     * @return the read replay
+     * @throws IOException in case reading fails or the stream does not hold a replay
+     */
+    public static Replay read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+            throw new IOException("not a bricker replay");
+        }
+        long seed = in.readLong();
+        int tickRate = in.readInt();
+        int[] keyCodes = new int[in.readByte()];
+        for (int i = 0; i < keyCodes.length; i++) {
+            keyCodes[i] = in.readInt();
+        }
+        int numOfRuns = in.readInt();
+        int[] runMasks = new int[numOfRuns];
+        float[] runDeltaTimes = new float[numOfRuns];
+        int[] runLengths = new int[numOfRuns];
+        for (int i = 0; i < numOfRuns; i++) {
+            runMasks[i] = in.readInt();
+            runDeltaTimes[i] = in.readFloat();
+            runLengths[i] = in.readInt();
+        }
+        GameSnapshot finalSnapshot = null;
+        if (in.readBoolean()) {
+            GameOutcome outcome = GameOutcome.values()[in.readByte()];
+            finalSnapshot = new GameSnapshot(outcome, in.readInt(), in.readInt(), in.readFloat(),
+                    in.readFloat());
+        }
+        return new Replay(seed, tickRate, keyCodes, runMasks, runDeltaTimes, runLengths, finalSnapshot);
+    }
+}
@@ -0,0 +1,103 @@
+package src.replay;
+
+import src.BrickerGameManager;
+import src.GameOutcome;
+import src.levels.LevelDescription;
+import src.simulation.HeadlessEnvironment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * The following class replays a recorded game headlessly, at maximal speed, and checks that it ends
+ * in the same state as the recorded game.
+ * @author Eliyahu Tamarkin
+ */
+public class ReplayPlayer {
+
+    private final LevelDescription level;
+    private int pressedKeysMask;
+
+    /**
+     * Constructs a new ReplayPlayer instance.
+     * @param level the level the recorded game was played on. Its seed is replaced by the seed of the
+     *              replay.
+     */
+    public ReplayPlayer(LevelDescription level) {
+        this.level = level;
+    }
+
+    /**
+     * Replays a recorded game
+     * @param replay the recorded game
+     * @return the state the replayed game ended in
+     */
+    public GameSnapshot play(Replay replay) {
+        int[] keyCodes = replay.getKeyCodes();
+        HeadlessEnvironment environment = new HeadlessEnvironment(level.getWindowDimensions(),
+                keyCode -> isPressed(keyCodes, keyCode));
+        BrickerGameManager gameManager = new BrickerGameManager(BrickerGameManager.WINDOW_TITLE,
+                level.withSeed(replay.getSeed()));
+        gameManager.setTickRate(replay.getTickRate());
+        gameManager.setTextureAtlas(false);
+        gameManager.setLoadShedding(false);
+        gameManager.initializeGame(environment.getImageReader(), environment.getSoundReader(),
+                environment.getInputListener(), environment.getWindowController());
+        gameManager.awaitInteractive();
+        for (int run = 0; run < replay.getNumOfRuns(); run++) {
+            pressedKeysMask = replay.getRunMask(run);
+            float deltaTime = replay.getRunDeltaTime(run);
+            for (int tick = 0; tick < replay.getRunLength(run); tick++) {
+                if (gameManager.getGameOutcome() != GameOutcome.IN_PROGRESS) {
+                    return gameManager.createSnapshot();
+                }
+                gameManager.update(deltaTime);
+            }
+        }
+        return gameManager.createSnapshot();
+    }
+
+    /**
+     * Helper function checking whether a key is pressed at the current tick
+     * @param keyCodes codes of the recorded keys
+     * @param keyCode code of the key
+     * @return true if the key is recorded as pressed and false otherwise
+     */
+    private boolean isPressed(int[] keyCodes, int keyCode) {
+        for (int i = 0; i < keyCodes.length; i++) {
+            if (keyCodes[i] == keyCode) {
+                return (pressedKeysMask & (1 << i)) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replays a recorded game of the original level, or of a given level, and reports whether it ended
+     * in the recorded state.
+     * @param args path of the replay file, optionally followed by the path of a level description file
+     * @throws IOException in case a file could not be read
+     */
+    public static void main(String[] args) throws IOException {
+        Replay replay;
+        try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+            replay = Replay.read(in);
+        }
+        LevelDescription level = args.length > 1 ? LevelDescription.load(Paths.get(args[1])) :
+                LevelDescription.defaultLevel(replay.getSeed());
+        long start = System.nanoTime();
+        GameSnapshot snapshot = new ReplayPlayer(level).play(replay);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("replayed %d ticks in %.3fs (%.1f ticks/sec)%n", replay.getNumOfTicks(),
+                seconds, replay.getNumOfTicks() / seconds);
+        System.out.println("recorded: " + replay.getFinalSnapshot());
+        System.out.println("replayed: " + snapshot);
+        boolean matches = snapshot.equals(replay.getFinalSnapshot());
+        System.out.println(matches ? "MATCH" : "MISMATCH");
+        if (!matches) {
+            System.exit(1);
+        }
+    }
+}
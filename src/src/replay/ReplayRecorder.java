@@ -0,0 +1,134 @@
+package src.replay;
+
+import danogl.gui.UserInputListener;
+
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The following class records the input of a game, tick by tick, into a Replay.
+ * The recorder is told about every tick before the game updates, and about the final state of the game
+ * once it ends, after which further ticks are ignored. A recorder given an output path writes the
+ * replay to it once the game ends.
+ * @author Eliyahu Tamarkin
+ */
+public class ReplayRecorder {
+
+    /**
+     * The keys the bricker game reads
+     */
+    public static final int[] GAME_KEYS = {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_W};
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_KEYS = Integer.SIZE;
+
+    private final long seed;
+    private final int tickRate;
+    private final int[] keyCodes;
+    private final Path outputPath;
+    private int[] runMasks = new int[INITIAL_CAPACITY];
+    private float[] runDeltaTimes = new float[INITIAL_CAPACITY];
+    private int[] runLengths = new int[INITIAL_CAPACITY];
+    private int numOfRuns;
+    private GameSnapshot finalSnapshot;
+
+    /**
+     * Constructs a new ReplayRecorder instance recording the keys of the bricker game.
+     * @param seed seed the recorded game is played with
+     * @param tickRate simulation steps per second the recorded game is played at
+     * @param outputPath path the replay is written to once the game ends, or null to keep it in memory
+     */
+    public ReplayRecorder(long seed, int tickRate, Path outputPath) {
+        this(seed, tickRate, GAME_KEYS, outputPath);
+    }
+
+    /**
+     * Constructs a new ReplayRecorder instance.
+     * @param seed seed the recorded game is played with
+     * @param tickRate simulation steps per second the recorded game is played at
+     * @param keyCodes codes of the keys to record
+     * @param outputPath path the replay is written to once the game ends, or null to keep it in memory
+     */
+    public ReplayRecorder(long seed, int tickRate, int[] keyCodes, Path outputPath) {
+        if (keyCodes.length > MAX_KEYS) {
+            throw new IllegalArgumentException("at most " + MAX_KEYS + " keys can be recorded");
+        }
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.keyCodes = keyCodes.clone();
+        this.outputPath = outputPath;
+    }
+
+    /**
+     * Records the keys pressed at the current tick
+     * @param inputListener listener the pressed keys are read from
+     * @param deltaTime deltaTime the tick is updated with
+     */
+    public void recordTick(UserInputListener inputListener, float deltaTime) {
+        if (isFinished()) {
+            return;
+        }
+        int mask = 0;
+        for (int i = 0; i < keyCodes.length; i++) {
+            if (inputListener.isKeyPressed(keyCodes[i])) {
+                mask |= 1 << i;
+            }
+        }
+        int last = numOfRuns - 1;
+        if (last >= 0 && runMasks[last] == mask &&
+                Float.compare(runDeltaTimes[last], deltaTime) == 0 && runLengths[last] < Integer.MAX_VALUE) {
+            runLengths[last]++;
+            return;
+        }
+        if (numOfRuns == runLengths.length) {
+            runMasks = Arrays.copyOf(runMasks, numOfRuns * 2);
+            runDeltaTimes = Arrays.copyOf(runDeltaTimes, numOfRuns * 2);
+            runLengths = Arrays.copyOf(runLengths, numOfRuns * 2);
+        }
+        runMasks[numOfRuns] = mask;
+        runDeltaTimes[numOfRuns] = deltaTime;
+        runLengths[numOfRuns] = 1;
+        numOfRuns++;
+    }
+
+    /**
+     * Records the final state of the game and stops recording. The replay is written to the output
+     * path, if there is one; a failure to write it is reported without interrupting the game.
+     * @param snapshot state of the game once it ended
+     */
+    public void finish(GameSnapshot snapshot) {
+        if (isFinished()) {
+            return;
+        }
+        finalSnapshot = snapshot;
+        if (outputPath != null) {
+            try (OutputStream out = Files.newOutputStream(outputPath)) {
+                toReplay().write(out);
+            } catch (IOException e) {
+                System.err.println("Could not write replay to " + outputPath + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the recorded game has ended
+     * @return true if the game has ended and false otherwise
+     */
+    public boolean isFinished() {
+        return finalSnapshot != null;
+    }
+
+    /**
+     * Builds the replay recorded so far
+     * @return the replay
+     */
+    public Replay toReplay() {
+        return new Replay(seed, tickRate, keyCodes.clone(), Arrays.copyOf(runMasks, numOfRuns),
+                Arrays.copyOf(runDeltaTimes, numOfRuns), Arrays.copyOf(runLengths, numOfRuns),
+                finalSnapshot);
+    }
+}
@@ -0,0 +1,115 @@
+package src.simulation;
+
+import src.GameOutcome;
+
+/**
+ * The following class holds the aggregated results of a batch of headless simulation runs.
+ * @author Eliyahu Tamarkin
+ */
+public class BatchResult {
+
+    private final int parallelism;
+    private final int games;
+    private final int wins;
+    private final int losses;
+    private final long totalTicks;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new BatchResult instance aggregating the results of the batch's games.
+     * @param parallelism amount of games that were simulated at the same time
+     * @param results results of every game of the batch
+     * @param elapsedNanos wall clock time spent simulating the whole batch, in nanoseconds
+     */
+    public BatchResult(int parallelism, SimulationResult[] results, long elapsedNanos) {
+        int wins = 0;
+        int losses = 0;
+        long totalTicks = 0;
+        for (SimulationResult result : results) {
+            if (result.getOutcome() == GameOutcome.WON) {
+                wins++;
+            }
+            else if (result.getOutcome() == GameOutcome.LOST) {
+                losses++;
+            }
+            totalTicks += result.getTicks();
+        }
+        this.parallelism = parallelism;
+        this.games = results.length;
+        this.wins = wins;
+        this.losses = losses;
+        this.totalTicks = totalTicks;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Parallelism getter
+     * @return amount of games that were simulated at the same time
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Games getter
+     * @return amount of games in the batch
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Wins getter
+     * @return amount of games that were won
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * Losses getter
+     * @return amount of games that were lost
+     */
+    public int getLosses() {
+        return losses;
+    }
+
+    /**
+     * Unfinished games getter
+     * @return amount of games that reached the tick limit before ending
+     */
+    public int getUnfinished() {
+        return games - wins - losses;
+    }
+
+    /**
+     * Calculates the average length of the batch's games
+     * @return average amount of ticks simulated per game
+     */
+    public double getAverageTicks() {
+        return games == 0 ? 0 : (double) totalTicks / games;
+    }
+
+    /**
+     * Elapsed time getter
+     * @return wall clock time spent simulating the whole batch, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Calculates the batch throughput
+     * @return simulated games per wall clock second
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("threads=%d games=%d won=%d lost=%d unfinished=%d avg ticks=%.1f " +
+                        "elapsed=%.3fs games/sec=%.2f", parallelism, games, wins, losses, getUnfinished(),
+                getAverageTicks(), elapsedNanos / 1e9, getGamesPerSecond());
+    }
+}
@@ -0,0 +1,106 @@
+package src.simulation;
+
+import src.levels.LevelDescription;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * The following class runs a batch of independent headless games in parallel, played by the autopilot.
+ * Every game is a session of its own, with its own game manager, headless environment and seed, and
+ * no game state is shared between sessions, so the games of a batch may run on any amount of threads.
+ * The seeds of the games are derived from the seed of the level in order, so a batch gives the same
+ * outcomes whatever its parallelism is.
+ * @author Eliyahu Tamarkin
+ */
+public class BatchSimulation {
+
+    private static final int DEFAULT_GAMES = 64;
+    private static final float DEFAULT_DELTA_TIME = 1f / 80;
+    private static final long DEFAULT_MAX_TICKS = 100_000;
+
+    private final LevelDescription level;
+    private final int games;
+    private final float deltaTime;
+    private final long maxTicks;
+
+    /**
+     * Constructs a new BatchSimulation instance.
+     * @param level the level every game is played on. Every game replaces its seed.
+     * @param games amount of games in the batch
+     * @param deltaTime the fixed time, in seconds, passed to every update
+     * @param maxTicks maximal number of ticks to simulate before giving up on a game
+     */
+    public BatchSimulation(LevelDescription level, int games, float deltaTime, long maxTicks) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("games must be positive");
+        }
+        this.level = level;
+        this.games = games;
+        this.deltaTime = deltaTime;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Runs the games of the batch on a pool of its own
+     * @param parallelism amount of games to simulate at the same time
+     * @return the aggregated results of the batch
+     * @throws InterruptedException in case the calling thread was interrupted while waiting
+     */
+    public BatchResult run(int parallelism) throws InterruptedException {
+        long[] seeds = new long[games];
+        SplittableRandom rnd = new SplittableRandom(level.getSeed());
+        for (int i = 0; i < games; i++) {
+            seeds[i] = rnd.nextLong();
+        }
+        SimulationResult[] results = new SimulationResult[games];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            pool.submit(() -> IntStream.range(0, games).parallel().forEach(game ->
+                    results[game] = new HeadlessSimulation(level.withSeed(seeds[game]), deltaTime,
+                            maxTicks, true).run())).get();
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("a simulated game has failed", e.getCause());
+        }
+        finally {
+            pool.shutdown();
+        }
+        return new BatchResult(parallelism, results, System.nanoTime() - start);
+    }
+
+    /**
+     * Runs the batch once per thread count, doubling the amount of threads up to the amount of
+     * available processors, and prints the results and the speedup over a single thread.
+     * @param args optional amount of games, an optional fixed deltaTime in seconds, an optional tick
+     *             limit per game and an optional path of a level description file
+     * @throws IOException in case the level description file could not be read
+     * @throws InterruptedException in case the main thread was interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        float deltaTime = args.length > 1 ? Float.parseFloat(args[1]) : DEFAULT_DELTA_TIME;
+        long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_MAX_TICKS;
+        LevelDescription level = args.length > 3 ? LevelDescription.load(Paths.get(args[3])) :
+                LevelDescription.defaultLevel(System.nanoTime());
+        BatchSimulation batch = new BatchSimulation(level, games, deltaTime, maxTicks);
+        int processors = Runtime.getRuntime().availableProcessors();
+        double singleThreadRate = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+            BatchResult result = batch.run(threads);
+            if (threads == 1) {
+                singleThreadRate = result.getGamesPerSecond();
+            }
+            System.out.printf("%s speedup=%.2f%n", result,
+                    singleThreadRate == 0 ? 0 : result.getGamesPerSecond() / singleThreadRate);
+            if (threads == processors) {
+                break;
+            }
+        }
+    }
+}
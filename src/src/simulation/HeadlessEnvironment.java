@@ -0,0 +1,179 @@
+package src.simulation;
+
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.UserInputListener;
+import danogl.gui.WindowController;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.util.Vector2;
+
+import java.lang.reflect.Proxy;
+import java.util.function.IntPredicate;
+
+/**
+ * The following class supplies stand-in readers and controllers that allow driving a game manager
+ * without opening a window, rendering or playing audio.
+ * The controller and the listener are built as dynamic proxies so that every method of the danogl
+ * interfaces is answered, while only the methods the game relies upon carry actual behaviour.
+ * @author Eliyahu Tamarkin
+ */
+public class HeadlessEnvironment {
+
+    private final Vector2 windowDimensions;
+    private final WindowController windowController;
+    private final UserInputListener inputListener;
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+    private boolean closeRequested;
+    private boolean resetRequested;
+
+    /**
+     * Constructs a new HeadlessEnvironment instance in which no key is ever pressed.
+     * @param windowDimensions dimensions reported by the stand-in window controller
+     */
+    public HeadlessEnvironment(Vector2 windowDimensions) {
+        this(windowDimensions, keyCode -> false);
+    }
+
+    /**
+     * Constructs a new HeadlessEnvironment instance.
+     * @param windowDimensions dimensions reported by the stand-in window controller
+     * @param keyPressed tells the stand-in input listener which keys are pressed
+     */
+    public HeadlessEnvironment(Vector2 windowDimensions, IntPredicate keyPressed) {
+        this.windowDimensions = windowDimensions;
+        this.windowController = createWindowController();
+        this.inputListener = createInputListener(keyPressed);
+        this.imageReader = new ImageReader(windowController) {
+            @Override
+            public ImageRenderable readImage(String imageFilePath, boolean useTopLeftPixelAsTransparent) {
+                return null;
+            }
+        };
+        this.soundReader = new SoundReader(windowController) {
+            @Override
+            public Sound readSound(String soundFilePath) {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Window controller getter
+     * @return a window controller that never blocks and declines every dialog
+     */
+    public WindowController getWindowController() {
+        return windowController;
+    }
+
+    /**
+     * Input listener getter
+     * @return an input listener which reports the keys the environment was given as pressed
+     */
+    public UserInputListener getInputListener() {
+        return inputListener;
+    }
+
+    /**
+     * Image reader getter
+     * @return an image reader that decodes nothing and returns null renderables
+     */
+    public ImageReader getImageReader() {
+        return imageReader;
+    }
+
+    /**
+     * Sound reader getter
+     * @return a sound reader that decodes nothing and returns null sounds
+     */
+    public SoundReader getSoundReader() {
+        return soundReader;
+    }
+
+    /**
+     * Checks whether the game asked for the window to be closed
+     * @return true if closeWindow was called and false otherwise
+     */
+    public boolean isCloseRequested() {
+        return closeRequested;
+    }
+
+    /**
+     * Checks whether the game asked for the game to be reset
+     * @return true if resetGame was called and false otherwise
+     */
+    public boolean isResetRequested() {
+        return resetRequested;
+    }
+
+    /**
+     * Builds the stand-in window controller
+     * @return window controller proxy
+     */
+    private WindowController createWindowController() {
+        return (WindowController) Proxy.newProxyInstance(WindowController.class.getClassLoader(),
+                new Class<?>[]{WindowController.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getWindowDimensions":
+                            return windowDimensions;
+                        case "closeWindow":
+                            closeRequested = true;
+                            return null;
+                        case "resetGame":
+                            resetRequested = true;
+                            return null;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    /**
+     * Builds the stand-in input listener
+     * @param keyPressed tells which keys are pressed
+     * @return input listener proxy
+     */
+    private static UserInputListener createInputListener(IntPredicate keyPressed) {
+        return (UserInputListener) Proxy.newProxyInstance(UserInputListener.class.getClassLoader(),
+                new Class<?>[]{UserInputListener.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("isKeyPressed")) {
+                        return keyPressed.test((Integer) args[0]);
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+    }
+
+    /**
+     * Helper function returning the neutral value of a given return type
+     * @param type return type of a proxied method
+     * @return false, zero or null according to the type
+     */
+    static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return null;
+    }
+}
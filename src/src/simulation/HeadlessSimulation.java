@@ -0,0 +1,90 @@
+package src.simulation;
+
+import src.BrickerGameManager;
+import src.GameOutcome;
+import src.audio.AudioBackend;
+import src.levels.LevelDescription;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * The following class runs the bricker game without a window.
+ * It drives initializeGame and update directly with stand-in readers and controllers, at a fixed
+ * deltaTime and as fast as the CPU allows, and reports the throughput and the outcome of the game.
+ * @author Eliyahu Tamarkin
+ */
+public class HeadlessSimulation {
+
+    private static final float DEFAULT_DELTA_TIME = 1f / 80;
+    private static final long DEFAULT_MAX_TICKS = 1_000_000;
+
+    private final LevelDescription level;
+    private final float deltaTime;
+    private final long maxTicks;
+    private final boolean autopilot;
+
+    /**
+     * Constructs a new HeadlessSimulation instance.
+     * @param level the level to be played
+     * @param deltaTime the fixed time, in seconds, passed to every update
+     * @param maxTicks maximal number of ticks to simulate before giving up on the game
+     */
+    public HeadlessSimulation(LevelDescription level, float deltaTime, long maxTicks) {
+        this(level, deltaTime, maxTicks, false);
+    }
+
+    /**
+     * Constructs a new HeadlessSimulation instance.
+     * @param level the level to be played
+     * @param deltaTime the fixed time, in seconds, passed to every update
+     * @param maxTicks maximal number of ticks to simulate before giving up on the game
+     * @param autopilot true to have the paddles moved by the autopilot, false to leave them in place
+     */
+    public HeadlessSimulation(LevelDescription level, float deltaTime, long maxTicks, boolean autopilot) {
+        if (deltaTime <= 0 || maxTicks <= 0) {
+            throw new IllegalArgumentException("deltaTime and maxTicks must be positive");
+        }
+        this.level = level;
+        this.deltaTime = deltaTime;
+        this.maxTicks = maxTicks;
+        this.autopilot = autopilot;
+    }
+
+    /**
+     * Runs a single headless game until it ends or the tick limit is reached
+     * @return the results of the run
+     */
+    public SimulationResult run() {
+        HeadlessEnvironment environment = new HeadlessEnvironment(level.getWindowDimensions());
+        BrickerGameManager gameManager = new BrickerGameManager(BrickerGameManager.WINDOW_TITLE, level);
+        gameManager.setAutopilot(autopilot);
+        gameManager.setAudioBackend(AudioBackend.SILENT);
+        gameManager.setTextureAtlas(false);
+        gameManager.setLoadShedding(false);
+        gameManager.initializeGame(environment.getImageReader(), environment.getSoundReader(),
+                environment.getInputListener(), environment.getWindowController());
+        gameManager.awaitInteractive();
+        long ticks = 0;
+        long start = System.nanoTime();
+        while (ticks < maxTicks && gameManager.getGameOutcome() == GameOutcome.IN_PROGRESS) {
+            gameManager.update(deltaTime);
+            ticks++;
+        }
+        return new SimulationResult(gameManager.getGameOutcome(), ticks, System.nanoTime() - start);
+    }
+
+    /**
+     * Runs a headless game played by the autopilot and prints its results.
+     * @param args optional fixed deltaTime in seconds, an optional tick limit and an optional path of
+     *             a level description file
+     * @throws IOException in case the level description file could not be read
+     */
+    public static void main(String[] args) throws IOException {
+        float deltaTime = args.length > 0 ? Float.parseFloat(args[0]) : DEFAULT_DELTA_TIME;
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_MAX_TICKS;
+        LevelDescription level = args.length > 2 ? LevelDescription.load(Paths.get(args[2])) :
+                LevelDescription.defaultLevel(System.nanoTime());
+        System.out.println(new HeadlessSimulation(level, deltaTime, maxTicks, true).run());
+    }
+}
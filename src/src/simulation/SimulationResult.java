@@ -0,0 +1,64 @@
+package src.simulation;
+
+import src.GameOutcome;
+
+/**
+ * The following class holds the results of a single headless simulation run.
+ * @author Eliyahu Tamarkin
+ */
+public class SimulationResult {
+
+    private final GameOutcome outcome;
+    private final long ticks;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new SimulationResult instance.
+     * @param outcome the outcome of the simulated game
+     * @param ticks number of ticks that were simulated
+     * @param elapsedNanos wall clock time spent simulating, in nanoseconds
+     */
+    public SimulationResult(GameOutcome outcome, long ticks, long elapsedNanos) {
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Outcome getter
+     * @return the outcome of the simulated game
+     */
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Ticks getter
+     * @return number of ticks that were simulated
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Elapsed time getter
+     * @return wall clock time spent simulating, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Calculates the simulation throughput
+     * @return simulated ticks per wall clock second
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticks * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("outcome=%s ticks=%d elapsed=%.3fs ticks/sec=%.1f", outcome, ticks,
+                elapsedNanos / 1e9, getTicksPerSecond());
+    }
+}
@@ -0,0 +1,84 @@
+package src.utils;
+
+import danogl.util.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * The following class is a counter which notifies its subscribers whenever its value changes, so that
+ * objects depending on the value can react to changes instead of polling the value every frame.
+ * Operations that leave the value as it was notify no one.
+ * @author Eliyahu Tamarkin
+ */
+public class ObservableCounter extends Counter {
+
+    private final List<IntConsumer> subscribers = new ArrayList<>();
+
+    /**
+     * Constructs a new ObservableCounter instance.
+     * @param initialValue initial value of the counter
+     */
+    public ObservableCounter(int initialValue) {
+        super(initialValue);
+    }
+
+    /**
+     * Subscribes to changes of the counter's value
+     * @param subscriber called with the new value whenever the value changes
+     */
+    public void subscribe(IntConsumer subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Unsubscribes from changes of the counter's value
+     * @param subscriber a subscriber previously passed to subscribe
+     */
+    public void unsubscribe(IntConsumer subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void increaseBy(int val) {
+        int oldValue = value();
+        super.increaseBy(val);
+        notifySubscribers(oldValue);
+    }
+
+    @Override
+    public void increment() {
+        int oldValue = value();
+        super.increment();
+        notifySubscribers(oldValue);
+    }
+
+    @Override
+    public void decrement() {
+        int oldValue = value();
+        super.decrement();
+        notifySubscribers(oldValue);
+    }
+
+    @Override
+    public void reset() {
+        int oldValue = value();
+        super.reset();
+        notifySubscribers(oldValue);
+    }
+
+    /**
+     * Helper function notifying the subscribers in case the value has changed
+     * @param oldValue value of the counter before the last operation
+     */
+    private void notifySubscribers(int oldValue) {
+        int newValue = value();
+        if (newValue == oldValue) {
+            return;
+        }
+        for (int i = 0; i < subscribers.size(); i++) {
+            subscribers.get(i).accept(newValue);
+        }
+    }
+}
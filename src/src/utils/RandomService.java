@@ -0,0 +1,49 @@
+package src.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * The following class is the single source of randomness of a game.
+ * Every random decision of the game is taken with a generator split off the service, and the
+ * generators are split in the deterministic order the game is built in, so a game built from the same
+ * seed makes the same random decisions. The service is meant to be used by the game's thread only.
+ * @author Eliyahu Tamarkin
+ */
+public class RandomService {
+
+    private final long seed;
+    private final SplittableRandom root;
+
+    /**
+     * Constructs a new RandomService instance.
+     * @param seed the seed all randomness of the game is derived from
+     */
+    public RandomService(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Seed getter
+     * @return the seed all randomness of the game is derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Splits a new independent generator off the service
+     * @return a new generator
+     */
+    public SplittableRandom split() {
+        return root.split();
+    }
+
+    /**
+     * Draws a seed for a computation that creates its own generators, e.g. on other threads
+     * @return a new seed
+     */
+    public long nextSeed() {
+        return root.nextLong();
+    }
+}
@@ -0,0 +1,129 @@
+package src.brick_strategies;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the strategy picking of CollisionStrategyFactory.
+ * @author Eliyahu Tamarkin
+ */
+class CollisionStrategyFactoryTest {
+
+    private static final int REGULAR = 0;
+    private static final int MULTIPLE_BALLS = 1;
+    private static final int ADDITIONAL_PADDLE = 2;
+    private static final int HEART_CREATION = 4;
+    private static final int DOUBLE = 5;
+    private static final int STRATEGY_CODE_BITS = 3;
+    private static final int STRATEGY_CODE_MASK = (1 << STRATEGY_CODE_BITS) - 1;
+    private static final int NUM_OF_PICKS = 10_000;
+    private static final long SEED = 42;
+
+    /**
+     * Helper function listing the behaviours of a strategy code
+     * @param strategyCode code returned by pickStrategyCode
+     * @return the behaviours of the code, innermost first, or an empty list for a regular brick
+     */
+    private static List<Integer> behaviours(int strategyCode) {
+        List<Integer> behaviours = new ArrayList<>();
+        for (int code = strategyCode; code != REGULAR; code >>>= STRATEGY_CODE_BITS) {
+            behaviours.add(code & STRATEGY_CODE_MASK);
+        }
+        return behaviours;
+    }
+
+    @Test
+    void regularOnlyWeightsAlwaysPickRegular() {
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        for (int i = 0; i < NUM_OF_PICKS; i++) {
+            assertEquals(REGULAR,
+                    CollisionStrategyFactory.pickStrategyCode(rnd, new int[]{1, 0, 0, 0, 0, 0}));
+        }
+    }
+
+    @Test
+    void singleBehaviourIsItsOwnCode() {
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        for (int i = 0; i < NUM_OF_PICKS; i++) {
+            assertEquals(HEART_CREATION,
+                    CollisionStrategyFactory.pickStrategyCode(rnd, new int[]{0, 0, 0, 0, 1, 0}));
+        }
+    }
+
+    @Test
+    void codesListOneToThreeBehavioursAndNeverDouble() {
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        int[] weights = {1, 1, 1, 1, 1, 1};
+        for (int i = 0; i < NUM_OF_PICKS; i++) {
+            int strategyCode = CollisionStrategyFactory.pickStrategyCode(rnd, weights);
+            List<Integer> behaviours = behaviours(strategyCode);
+            assertTrue(behaviours.size() <= 3);
+            for (int behaviour : behaviours) {
+                assertTrue(behaviour >= MULTIPLE_BALLS && behaviour < DOUBLE);
+            }
+        }
+    }
+
+    @Test
+    void typeWithZeroWeightIsNeverPicked() {
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        int[] weights = {1, 1, 0, 1, 1, 1};
+        for (int i = 0; i < NUM_OF_PICKS; i++) {
+            int strategyCode = CollisionStrategyFactory.pickStrategyCode(rnd, weights);
+            List<Integer> behaviours = behaviours(strategyCode);
+            assertFalse(behaviours.contains(ADDITIONAL_PADDLE));
+        }
+    }
+
+    @Test
+    void doubleStrategyPicksTwoBehavioursOrThreeAfterAnotherDouble() {
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        int[] weights = {0, 0, 0, 0, 1, 3};
+        boolean pickedTwo = false;
+        boolean pickedThree = false;
+        for (int i = 0; i < NUM_OF_PICKS; i++) {
+            int strategyCode = CollisionStrategyFactory.pickStrategyCode(rnd, weights);
+            List<Integer> behaviours = behaviours(strategyCode);
+            for (int behaviour : behaviours) {
+                assertEquals(HEART_CREATION, behaviour);
+            }
+            assertTrue(behaviours.size() >= 1 && behaviours.size() <= 3);
+            pickedTwo |= behaviours.size() == 2;
+            pickedThree |= behaviours.size() == 3;
+        }
+        assertTrue(pickedTwo);
+        assertTrue(pickedThree);
+    }
+
+    @Test
+    void sameSeedPicksSameCodes() {
+        SplittableRandom first = new SplittableRandom(SEED);
+        SplittableRandom second = new SplittableRandom(SEED);
+        int[] weights = {3, 1, 1, 1, 1, 2};
+        for (int i = 0; i < NUM_OF_PICKS; i++) {
+            assertEquals(CollisionStrategyFactory.pickStrategyCode(first, weights),
+                    CollisionStrategyFactory.pickStrategyCode(second, weights));
+        }
+    }
+
+    @Test
+    void invalidWeightsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CollisionStrategyFactory.checkWeights(new int[]{1, 1, 1, 1, 1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> CollisionStrategyFactory.checkWeights(new int[]{1, -1, 1, 1, 1, 1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> CollisionStrategyFactory.checkWeights(new int[]{0, 0, 0, 0, 0, 0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> CollisionStrategyFactory.checkWeights(new int[]{1, 0, 0, 0, 0, 1}));
+        CollisionStrategyFactory.checkWeights(new int[]{1, 0, 0, 0, 0, 0});
+    }
+}
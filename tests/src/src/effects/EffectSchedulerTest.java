@@ -0,0 +1,110 @@
+package src.effects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of EffectScheduler.
+ * @author Eliyahu Tamarkin
+ */
+class EffectSchedulerTest {
+
+    private final Object target = new Object();
+    private final List<String> expired = new ArrayList<>();
+    private EffectScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new EffectScheduler();
+    }
+
+    @Test
+    void effectExpiresOnItsLastHit() {
+        EffectScheduler.Effect effect = scheduler.afterHits(target, 3, () -> expired.add("effect"));
+
+        scheduler.recordHit(target);
+        scheduler.recordHit(target);
+        assertTrue(effect.isPending());
+        assertTrue(expired.isEmpty());
+
+        scheduler.recordHit(target);
+        assertFalse(effect.isPending());
+        assertEquals(List.of("effect"), expired);
+        assertEquals(0, scheduler.getPendingCount());
+
+        scheduler.recordHit(target);
+        assertEquals(1, expired.size());
+    }
+
+    @Test
+    void hitsOfOtherTargetsAreNotCounted() {
+        scheduler.afterHits(target, 1, () -> expired.add("effect"));
+
+        scheduler.recordHit(new Object());
+        assertTrue(expired.isEmpty());
+        assertEquals(1, scheduler.getPendingCount());
+    }
+
+    @Test
+    void effectsExpiringOnTheSameHitRunInTheOrderTheyWereScheduled() {
+        scheduler.afterHits(target, 1, () -> expired.add("first"));
+        scheduler.afterHits(target, 2, () -> expired.add("later"));
+        scheduler.afterHits(target, 1, () -> expired.add("second"));
+
+        scheduler.recordHit(target);
+        assertEquals(List.of("first", "second"), expired);
+        assertEquals(1, scheduler.getPendingCount());
+    }
+
+    @Test
+    void cancelledEffectNeverExpires() {
+        EffectScheduler.Effect effect = scheduler.afterHits(target, 1, () -> expired.add("effect"));
+
+        scheduler.cancel(effect);
+        scheduler.recordHit(target);
+        assertFalse(effect.isPending());
+        assertTrue(expired.isEmpty());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void cancellingEffectThatIsNoLongerPendingHasNoEffect() {
+        EffectScheduler.Effect effect = scheduler.afterHits(target, 1, () -> expired.add("effect"));
+        scheduler.afterHits(target, 2, () -> expired.add("other"));
+        scheduler.recordHit(target);
+
+        scheduler.cancel(effect);
+        scheduler.cancel(null);
+        assertEquals(1, scheduler.getPendingCount());
+        scheduler.recordHit(target);
+        assertEquals(List.of("effect", "other"), expired);
+    }
+
+    @Test
+    void clearCancelsEveryPendingEffect() {
+        EffectScheduler.Effect first = scheduler.afterHits(target, 1, () -> expired.add("first"));
+        EffectScheduler.Effect second = scheduler.afterHits(new Object(), 1, () -> expired.add("second"));
+
+        scheduler.clear();
+        scheduler.recordHit(target);
+        assertFalse(first.isPending());
+        assertFalse(second.isPending());
+        assertTrue(expired.isEmpty());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void nonPositiveHitsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler.afterHits(target, 0, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.afterHits(target, -1, () -> { }));
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
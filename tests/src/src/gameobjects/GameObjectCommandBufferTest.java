@@ -0,0 +1,190 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.collisions.Layer;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import src.BrickerGameManager;
+import src.audio.AudioBackend;
+import src.levels.LevelDescription;
+import src.physics.SweepHit;
+import src.physics.SweptBodies;
+import src.physics.SweptObstacle;
+import src.simulation.HeadlessEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of GameObjectCommandBuffer, applying its commands to the objects of a headless game.
+ * @author Eliyahu Tamarkin
+ */
+class GameObjectCommandBufferTest {
+
+    private static final long SEED = 42;
+
+    /**
+     * The following class is an obstacle game object which ignores its hits
+     */
+    private static class ObstacleObject extends GameObject implements SweptObstacle {
+
+        /**
+         * Constructs a new ObstacleObject instance.
+         */
+        ObstacleObject() {
+            super(Vector2.ZERO, Vector2.ONES, null);
+        }
+
+        @Override
+        public void sweep(GameObject mover, Vector2 displacement, SweepHit hit) {
+        }
+
+        @Override
+        public void onSweptHit(GameObject mover, SweepHit hit) {
+        }
+    }
+
+    private final List<String> events = new ArrayList<>();
+    private SweptBodies sweptBodies;
+    private GameObjectCommandBuffer commandBuffer;
+
+    @BeforeEach
+    void setUp() {
+        LevelDescription level = LevelDescription.defaultLevel(SEED);
+        HeadlessEnvironment environment = new HeadlessEnvironment(level.getWindowDimensions());
+        BrickerGameManager gameManager = new BrickerGameManager(BrickerGameManager.WINDOW_TITLE, level);
+        gameManager.setAudioBackend(AudioBackend.SILENT);
+        gameManager.setTextureAtlas(false);
+        gameManager.setLoadShedding(false);
+        gameManager.initializeGame(environment.getImageReader(), environment.getSoundReader(),
+                environment.getInputListener(), environment.getWindowController());
+        gameManager.awaitInteractive();
+        sweptBodies = new SweptBodies();
+        commandBuffer = new GameObjectCommandBuffer(gameManager.gameObjects(), sweptBodies);
+    }
+
+    /**
+     * Helper function creating a plain game object
+     * @return the object
+     */
+    private static GameObject newObject() {
+        return new GameObject(Vector2.ZERO, Vector2.ONES, null);
+    }
+
+    @Test
+    void commandsAreAppliedOnlyOnFlush() {
+        Ball ball = new Ball(Vector2.ZERO, Vector2.ONES, null, null, null, 0, null);
+        commandBuffer.add(ball);
+        commandBuffer.add(newObject(), Layer.BACKGROUND);
+
+        assertEquals(2, commandBuffer.getPendingCount());
+        assertTrue(sweptBodies.getBalls().isEmpty());
+        assertEquals(2, commandBuffer.flush());
+        assertEquals(0, commandBuffer.getPendingCount());
+        assertEquals(2, commandBuffer.getAppliedCount());
+        assertEquals(List.of(ball), sweptBodies.getBalls());
+    }
+
+    @Test
+    void addedObjectsAreRegisteredAndRemovedOnesUnregistered() {
+        Ball ball = new Ball(Vector2.ZERO, Vector2.ONES, null, null, null, 0, null);
+        ObstacleObject obstacle = new ObstacleObject();
+        commandBuffer.add(ball);
+        commandBuffer.add(obstacle);
+        commandBuffer.add(newObject());
+        commandBuffer.flush();
+
+        assertEquals(List.of(ball), sweptBodies.getBalls());
+        assertEquals(List.of(obstacle), sweptBodies.getObstacles());
+
+        commandBuffer.remove(ball);
+        commandBuffer.remove(obstacle);
+        commandBuffer.flush();
+        assertTrue(sweptBodies.getBalls().isEmpty());
+        assertTrue(sweptBodies.getObstacles().isEmpty());
+    }
+
+    @Test
+    void repeatedRemovalIsIgnoredAndCounted() {
+        GameObject object = newObject();
+        commandBuffer.add(object);
+        commandBuffer.flush();
+
+        assertTrue(commandBuffer.remove(object, Layer.DEFAULT, () -> events.add("first")));
+        assertFalse(commandBuffer.remove(object, Layer.DEFAULT, () -> events.add("second")));
+        assertFalse(commandBuffer.remove(object));
+        assertTrue(commandBuffer.isPendingRemoval(object));
+        assertEquals(2, commandBuffer.getIgnoredRemovalCount());
+        assertEquals(1, commandBuffer.getPendingCount());
+
+        commandBuffer.flush();
+        assertEquals(List.of("first"), events);
+        assertFalse(commandBuffer.isPendingRemoval(object));
+    }
+
+    @Test
+    void removalActionsRunInTheOrderTheRemovalsWereRequested() {
+        GameObject first = newObject();
+        GameObject second = newObject();
+        commandBuffer.add(first);
+        commandBuffer.add(second);
+        commandBuffer.flush();
+
+        commandBuffer.remove(second, Layer.DEFAULT, () -> events.add("second"));
+        commandBuffer.remove(first, Layer.DEFAULT, () -> events.add("first"));
+        assertTrue(events.isEmpty());
+        commandBuffer.flush();
+        assertEquals(List.of("second", "first"), events);
+
+        commandBuffer.flush();
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    void objectMayBeRemovedAgainOnceItsRemovalWasApplied() {
+        GameObject object = newObject();
+        commandBuffer.add(object);
+        commandBuffer.remove(object);
+        commandBuffer.flush();
+
+        commandBuffer.add(object);
+        assertTrue(commandBuffer.remove(object));
+        assertEquals(0, commandBuffer.getIgnoredRemovalCount());
+    }
+
+    @Test
+    void objectAddedAgainMayBeRemovedAgainInTheSameStep() {
+        GameObject object = newObject();
+        commandBuffer.add(object);
+        commandBuffer.flush();
+
+        commandBuffer.remove(object);
+        commandBuffer.add(object);
+        assertFalse(commandBuffer.isPendingRemoval(object));
+        assertTrue(commandBuffer.remove(object));
+        assertEquals(3, commandBuffer.getPendingCount());
+    }
+
+    @Test
+    void bufferGrowsBeyondItsInitialCapacity() {
+        List<GameObject> objects = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            GameObject object = newObject();
+            objects.add(object);
+            commandBuffer.add(object);
+        }
+        commandBuffer.flush();
+        for (GameObject object : objects) {
+            commandBuffer.remove(object, Layer.DEFAULT, () -> events.add("removed"));
+        }
+
+        assertEquals(200, commandBuffer.flush());
+        assertEquals(200, events.size());
+        assertEquals(400, commandBuffer.getAppliedCount());
+    }
+}
@@ -0,0 +1,170 @@
+package src.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of GameObjectPool.
+ * @author Eliyahu Tamarkin
+ */
+class GameObjectPoolTest {
+
+    /**
+     * The following class is a pooled object which counts the times its state was reset
+     */
+    private static class PooledObject extends GameObject implements Poolable {
+
+        private int resets;
+
+        /**
+         * Constructs a new PooledObject instance.
+         */
+        PooledObject() {
+            super(Vector2.ZERO, Vector2.ONES, null);
+        }
+
+        @Override
+        public void resetState() {
+            resets++;
+        }
+    }
+
+    /**
+     * Helper function creating a pool of new pooled objects
+     * @param maxLive maximal amount of objects that may be spawned at the same time
+     * @param maxIdle maximal amount of released objects kept for reuse
+     * @return the pool
+     */
+    private static GameObjectPool<PooledObject> newPool(int maxLive, int maxIdle) {
+        return new GameObjectPool<>(pool -> new PooledObject(), maxLive, maxIdle);
+    }
+
+    @Test
+    void releasedObjectIsResetAndReused() {
+        GameObjectPool<PooledObject> pool = newPool(4, 4);
+        PooledObject object = pool.spawn();
+
+        assertTrue(pool.release(object));
+        assertEquals(1, object.resets);
+        assertEquals(0, pool.getLiveCount());
+        assertEquals(1, pool.getIdleCount());
+        assertSame(object, pool.spawn());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void releasingObjectThatIsNotLiveHasNoEffect() {
+        GameObjectPool<PooledObject> pool = newPool(4, 4);
+        PooledObject object = pool.spawn();
+        pool.release(object);
+
+        assertFalse(pool.release(object));
+        assertFalse(pool.release(new PooledObject()));
+        assertEquals(1, object.resets);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void idleObjectsAreCappedByMaxIdle() {
+        GameObjectPool<PooledObject> pool = newPool(4, 1);
+        PooledObject first = pool.spawn();
+        PooledObject second = pool.spawn();
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(1, second.resets);
+        assertNotSame(pool.spawn(), pool.spawn());
+    }
+
+    @Test
+    void spawnIsRefusedAndCountedOnceMaxLiveIsReached() {
+        GameObjectPool<PooledObject> pool = newPool(2, 2);
+        assertNotNull(pool.spawn());
+        PooledObject second = pool.spawn();
+
+        assertNull(pool.spawn());
+        assertNull(pool.spawn());
+        assertEquals(2, pool.getRefusedSpawns());
+        assertEquals(2, pool.getLiveCount());
+
+        pool.release(second);
+        assertNotNull(pool.spawn());
+        assertEquals(2, pool.getRefusedSpawns());
+    }
+
+    @Test
+    void tightenedLiveCapRefusesSpawnsUntilEnoughObjectsAreReleased() {
+        GameObjectPool<PooledObject> pool = newPool(4, 4);
+        PooledObject first = pool.spawn();
+        pool.spawn();
+        pool.spawn();
+
+        pool.setLiveCap(2);
+        assertEquals(3, pool.getLiveCount());
+        assertNull(pool.spawn());
+        pool.release(first);
+        assertNull(pool.spawn());
+        assertEquals(2, pool.getRefusedSpawns());
+
+        pool.setLiveCap(pool.getMaxLive());
+        assertNotNull(pool.spawn());
+        assertEquals(4, pool.getLiveCap());
+    }
+
+    @Test
+    void liveCapOutsideItsBoundsIsRejected() {
+        GameObjectPool<PooledObject> pool = newPool(4, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> pool.setLiveCap(-1));
+        assertThrows(IllegalArgumentException.class, () -> pool.setLiveCap(5));
+        pool.setLiveCap(0);
+        assertNull(pool.spawn());
+    }
+
+    @Test
+    void invalidCapsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> newPool(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> newPool(4, -1));
+    }
+
+    @Test
+    void releaseIfReleasesOnlyMatchingObjects() {
+        GameObjectPool<PooledObject> pool = newPool(4, 4);
+        PooledObject kept = pool.spawn();
+        PooledObject released = pool.spawn();
+        int[] onReleaseResets = {-1};
+
+        int count = pool.releaseIf(object -> object == released,
+                object -> onReleaseResets[0] = object.resets);
+
+        assertEquals(1, count);
+        assertEquals(0, onReleaseResets[0]);
+        assertEquals(1, released.resets);
+        assertEquals(0, kept.resets);
+        assertEquals(1, pool.getLiveCount());
+        assertSame(released, pool.spawn());
+    }
+
+    @Test
+    void factoryIsGivenThePool() {
+        Object[] owner = new Object[1];
+        GameObjectPool<PooledObject> pool = new GameObjectPool<>(p -> {
+            owner[0] = p;
+            return new PooledObject();
+        }, 1, 1);
+
+        pool.spawn();
+        assertSame(pool, owner[0]);
+    }
+}
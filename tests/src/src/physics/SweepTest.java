@@ -0,0 +1,168 @@
+package src.physics;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of Sweep, sweeping a 10x10 moving box against a 20x20 static box at (100, 0).
+ * @author Eliyahu Tamarkin
+ */
+class SweepTest {
+
+    private static final float SIZE = 10;
+    private static final float STATIC_X = 100;
+    private static final float STATIC_Y = 0;
+    private static final float STATIC_SIZE = 20;
+    private static final int CELL = 7;
+    private static final float EPSILON = 1e-6f;
+
+    /**
+     * The following class is an obstacle which ignores its hits
+     */
+    private static class StaticObstacle implements SweptObstacle {
+
+        @Override
+        public void sweep(GameObject mover, Vector2 displacement, SweepHit hit) {
+        }
+
+        @Override
+        public void onSweptHit(GameObject mover, SweepHit hit) {
+        }
+    }
+
+    private final SweptObstacle obstacle = new StaticObstacle();
+    private SweepHit hit;
+
+    @BeforeEach
+    void setUp() {
+        hit = new SweepHit();
+    }
+
+    /**
+     * Helper function sweeping the moving box against the static box
+     * @param x left edge of the moving box
+     * @param y top edge of the moving box
+     * @param dx horizontal movement of the box
+     * @param dy vertical movement of the box
+     * @return true if the static box was hit before the held impact and false otherwise
+     */
+    private boolean sweep(float x, float y, float dx, float dy) {
+        return Sweep.sweepBox(x, y, SIZE, SIZE, dx, dy, STATIC_X, STATIC_Y, STATIC_SIZE, STATIC_SIZE,
+                hit, obstacle, CELL);
+    }
+
+    @Test
+    void headOnHitGivesTimeOfImpactAndFaceNormal() {
+        assertTrue(sweep(0, 5, 180, 0));
+        assertTrue(hit.isHit());
+        assertEquals(0.5f, hit.getTime(), EPSILON);
+        assertEquals(-1f, hit.getNormalX(), EPSILON);
+        assertEquals(0f, hit.getNormalY(), EPSILON);
+        assertSame(obstacle, hit.getObstacle());
+        assertEquals(CELL, hit.getCell());
+    }
+
+    @Test
+    void hitFromBelowGivesDownwardNormal() {
+        assertTrue(sweep(105, 60, 0, -80));
+        assertEquals(0.5f, hit.getTime(), EPSILON);
+        assertEquals(0f, hit.getNormalX(), EPSILON);
+        assertEquals(1f, hit.getNormalY(), EPSILON);
+    }
+
+    @Test
+    void diagonalHitGivesNormalOfTheFaceEnteredLast() {
+        assertTrue(sweep(60, -30, 40, 40));
+        assertEquals(0.75f, hit.getTime(), EPSILON);
+        assertEquals(-1f, hit.getNormalX(), EPSILON);
+        assertEquals(0f, hit.getNormalY(), EPSILON);
+    }
+
+    @Test
+    void zeroVelocityOnAxisWithoutOverlapOnItMisses() {
+        assertFalse(sweep(0, -50, 0, 100));
+        assertFalse(sweep(105, 30, 180, 0));
+        assertFalse(hit.isHit());
+        assertEquals(Float.POSITIVE_INFINITY, hit.getTime(), 0);
+    }
+
+    @Test
+    void zeroVelocityOnAxisWithOverlapOnItHits() {
+        assertTrue(sweep(105, -50, 0, 100));
+        assertEquals(0.4f, hit.getTime(), EPSILON);
+        assertEquals(0f, hit.getNormalX(), EPSILON);
+        assertEquals(-1f, hit.getNormalY(), EPSILON);
+    }
+
+    @Test
+    void zeroDisplacementNeverHits() {
+        assertFalse(sweep(0, 5, 0, 0));
+        assertFalse(sweep(105, 5, 0, 0));
+        assertFalse(hit.isHit());
+    }
+
+    @Test
+    void boxStartingInsideTheStaticBoxMisses() {
+        assertFalse(sweep(105, 5, 50, 0));
+        assertFalse(sweep(105, 5, -50, 30));
+        assertFalse(hit.isHit());
+    }
+
+    @Test
+    void boxStartingPartlyOverlappingTheStaticBoxMisses() {
+        assertFalse(sweep(95, 5, 50, 0));
+        assertFalse(hit.isHit());
+    }
+
+    @Test
+    void impactBeyondTheDisplacementMisses() {
+        assertFalse(sweep(0, 5, 50, 0));
+        assertFalse(hit.isHit());
+    }
+
+    @Test
+    void boxPassingBesideTheStaticBoxMisses() {
+        assertFalse(sweep(0, 50, 180, -10));
+        assertFalse(hit.isHit());
+    }
+
+    @Test
+    void earlierImpactIsKept() {
+        SweptObstacle nearer = new StaticObstacle();
+        assertTrue(Sweep.sweepBox(0, 5, SIZE, SIZE, 180, 0, 50, 0, STATIC_SIZE, STATIC_SIZE,
+                hit, nearer, SweepHit.NO_CELL));
+
+        assertFalse(sweep(0, 5, 180, 0));
+        assertEquals(0.2222222f, hit.getTime(), EPSILON);
+        assertSame(nearer, hit.getObstacle());
+        assertEquals(SweepHit.NO_CELL, hit.getCell());
+    }
+
+    @Test
+    void laterSweepOfNearerBoxReplacesImpact() {
+        assertTrue(sweep(0, 5, 180, 0));
+        SweptObstacle nearer = new StaticObstacle();
+
+        assertTrue(Sweep.sweepBox(0, 5, SIZE, SIZE, 180, 0, 50, 0, STATIC_SIZE, STATIC_SIZE,
+                hit, nearer, SweepHit.NO_CELL));
+        assertSame(nearer, hit.getObstacle());
+        assertEquals(0.2222222f, hit.getTime(), EPSILON);
+    }
+
+    @Test
+    void resetForgetsImpact() {
+        sweep(0, 5, 180, 0);
+
+        hit.reset();
+        assertFalse(hit.isHit());
+        assertTrue(sweep(0, 5, 360, 0));
+        assertEquals(0.25f, hit.getTime(), EPSILON);
+    }
+}